@@ -34,7 +34,9 @@ fun App() {
                 onStart = { preset, cfg ->
                     selectedPreset = preset
                     currentConfig = cfg
-                    activeController = GameFactory.createGame(preset, cfg)
+                    activeController = GameFactory.createGame(preset, cfg).apply {
+                        setSpeculativePrecompute(true)
+                    }
                     screen = AppScreen.Game
                 },
                 onResume = {
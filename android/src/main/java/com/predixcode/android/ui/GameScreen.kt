@@ -106,6 +106,14 @@ fun GameScreen(
                         )
                     }
                 },
+                actions = {
+                    TextButton(onClick = {
+                        if (controller.undo()) viewState = controller.viewState
+                    }) { Text("Undo") }
+                    TextButton(onClick = {
+                        if (controller.redo()) viewState = controller.viewState
+                    }) { Text("Redo") }
+                },
                 colors = TopAppBarDefaults.topAppBarColors(
                     containerColor = MaterialTheme.colorScheme.surface
                 )
@@ -191,7 +199,7 @@ fun BoardWithCoordinates(
     val selected = viewState.selectedSquare
     val lastFrom = viewState.lastFrom
     val lastTo = viewState.lastTo
-    val legalTargets = viewState.legalTargets
+    val legalTargets = viewState.legalTargetSquares
 
     Column {
         for (y in 0 until height) {
@@ -206,8 +214,7 @@ fun BoardWithCoordinates(
                         (lastFrom != null && lastFrom.size >= 2 && lastFrom[0] == x && lastFrom[1] == y) ||
                                 (lastTo != null && lastTo.size >= 2 && lastTo[0] == x && lastTo[1] == y)
 
-                    val thisAlg = board.toAlg(x, y)
-                    val isTarget = legalTargets.contains(thisAlg)
+                    val isTarget = legalTargets.contains(x, y)
 
                     val piece = board.getPieceAt(x, y)
 
@@ -1,8 +1,16 @@
 package com.predixcode.core;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.predixcode.core.board.Board;
+import com.predixcode.core.fen.ExtendedFen;
 import com.predixcode.core.fen.StartPositionService;
 import com.predixcode.core.rules.Rule;
 import com.predixcode.core.rules.RuleBuilder;
@@ -12,33 +20,158 @@ public final class GameFactory {
 
     private GameFactory() {}
 
+    public static final int TEMPLATE_CACHE_SIZE = 64;
+
+    /** One game of a batch. */
+    public record GameSpec(ScenarioMeta preset, GameConfig config) {}
+
+    /** Template identity: resolved base FEN + full config + (effective) layout seed. */
+    private record TemplateKey(String baseFen, GameConfig cfg, long seed) {}
+
+    // Started template boards; new games are copies, templates are never played.
+    private static final Map<TemplateKey, Board> TEMPLATES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TemplateKey, Board> eldest) {
+            return size() > TEMPLATE_CACHE_SIZE;
+        }
+    };
+
     /**
      * Create a fully initialized BoardController for a given preset + config:
      *  - resolve base FEN (preset vs override)
      *  - apply board-size + Chess960 rules
      *  - build rules and call onGameStart
+     * An extended FEN override (see {@link ExtendedFen}) is a saved position:
+     * it is loaded as-is with the rules and turn budget it carries.
+     * Configs without random layout choices are served from a prepared
+     * template, so repeated games cost one {@link Board#copy()}.
      */
     public static BoardController createGame(ScenarioMeta preset, GameConfig cfg) {
+        if (StartPositionService.dependsOnSeed(cfg)) {
+            // One-off random layout: not worth a template slot.
+            return new BoardController(createBoard(preset, cfg, ThreadLocalRandom.current().nextLong(), false));
+        }
+        return createGame(preset, cfg, 0L);
+    }
+
+    /**
+     * Same as {@link #createGame(ScenarioMeta, GameConfig)} with a fixed seed
+     * for randomized layouts: equal inputs give the same starting position,
+     * copied from one template.
+     */
+    public static BoardController createGame(ScenarioMeta preset, GameConfig cfg, long seed) {
+        return new BoardController(createBoard(preset, cfg, seed));
+    }
+
+    /**
+     * Started board for a preset + config + seed, as a copy of the cached template.
+     */
+    public static Board createBoard(ScenarioMeta preset, GameConfig cfg, long seed) {
+        return createBoard(preset, cfg, seed, true);
+    }
+
+    private static Board createBoard(ScenarioMeta preset, GameConfig cfg, long seed, boolean useTemplate) {
         // 1) Resolve base FEN
         String fenOverride = cfg.fenOverride();
+        if (fenOverride != null && ExtendedFen.hasExtension(fenOverride)) {
+            return ExtendedFen.parse(fenOverride);
+        }
         String baseFen = (fenOverride == null || fenOverride.isBlank())
                 ? preset.getDefaultFen()
                 : fenOverride;
 
-        // 2) Apply start-position rules (size + Chess960)
-        String finalFen = StartPositionService.buildStartingFen(baseFen, cfg);
+        long effectiveSeed = StartPositionService.dependsOnSeed(cfg) ? seed : 0L;
+        if (!useTemplate) return buildTemplate(baseFen, cfg, effectiveSeed, false);
 
-        // 3) Build board + rules
-        Board board = Board.fromFen(finalFen);
-        List<Rule> rules = RuleBuilder.buildRules(cfg);
-        board.setRules(rules);
+        TemplateKey key = new TemplateKey(baseFen, cfg, effectiveSeed);
+        Board template;
+        synchronized (TEMPLATES) {
+            template = TEMPLATES.get(key);
+        }
+        if (template == null) {
+            template = buildTemplate(baseFen, cfg, effectiveSeed, true);
+            synchronized (TEMPLATES) {
+                TEMPLATES.put(key, template);
+            }
+        }
+        return template.copy();
+    }
+
+    /**
+     * Creates one game per spec in parallel on the common fork-join pool.
+     * See {@link #createGames(List, long, ForkJoinPool)}.
+     */
+    public static List<BoardController> createGames(List<GameSpec> specs, long seed) {
+        return createGames(specs, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates one game per spec in parallel on {@code pool}; result i belongs to spec i.
+     * Every game gets its own RNG stream, split from {@code seed} in spec
+     * order before any work is forked, so the layouts (e.g. Chess960) are the
+     * same for the same inputs no matter how the work is scheduled.
+     */
+    public static List<BoardController> createGames(List<GameSpec> specs, long seed, ForkJoinPool pool) {
+        GameSpec[] todo = specs.toArray(new GameSpec[0]);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[todo.length];
+        for (int i = 0; i < streams.length; i++) streams[i] = root.split();
+
+        BoardController[] out = new BoardController[todo.length];
+        pool.invoke(new BatchTask(todo, streams, out, 0, todo.length));
+        return Arrays.asList(out);
+    }
+
+    /** Splits the index range in halves down to small chunks. */
+    private static final class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int CHUNK = 4;
 
-        board.ensureRules();
-        for (Rule r : board.getRules()) {
-            r.onGameStart(board);
+        private final GameSpec[] specs;
+        private final SplittableRandom[] streams;
+        private final BoardController[] out;
+        private final int from, to;
+
+        BatchTask(GameSpec[] specs, SplittableRandom[] streams, BoardController[] out, int from, int to) {
+            this.specs = specs;
+            this.streams = streams;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                for (int i = from; i < to; i++) {
+                    GameSpec spec = specs[i];
+                    long gameSeed = streams[i].nextLong();
+                    // Seeded random layouts are one-offs: build directly instead of caching a template.
+                    boolean useTemplate = !StartPositionService.dependsOnSeed(spec.config());
+                    out[i] = new BoardController(createBoard(spec.preset(), spec.config(), gameSeed, useTemplate));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BatchTask(specs, streams, out, from, mid),
+                      new BatchTask(specs, streams, out, mid, to));
+        }
+    }
+
+    public static void clearTemplates() {
+        synchronized (TEMPLATES) {
+            TEMPLATES.clear();
         }
+    }
+
+    private static Board buildTemplate(String baseFen, GameConfig cfg, long seed, boolean cache) {
+        // 2) Apply start-position rules (size + Chess960) and build the board
+        Board board = StartPositionService.createStartingBoard(baseFen, cfg, seed, cache);
 
-        // 4) Wrap in controller (shared UI contract)
-        return new BoardController(board);
+        // 3) Rules
+        List<Rule> rules = RuleBuilder.buildRules(cfg);
+        board.setRules(rules);
+        board.startGame();
+        return board;
     }
 }
@@ -2,9 +2,11 @@ package com.predixcode.core.board;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import com.predixcode.core.board.colors.Color;
 import com.predixcode.core.board.pieces.King;
@@ -12,9 +14,11 @@ import com.predixcode.core.board.pieces.Pawn;
 import com.predixcode.core.board.pieces.Piece;
 import com.predixcode.core.board.pieces.Rook;
 import com.predixcode.core.fen.FenAdapter;
+import com.predixcode.core.fen.FenWriter;
 import com.predixcode.core.rules.MoveContext;
 import com.predixcode.core.rules.Rule;
 import com.predixcode.core.rules.RuleBuilder;
+import com.predixcode.core.rules.RulePipeline;
 
 /**
  * Pure board model: no UI state, no click handling.
@@ -41,9 +45,38 @@ public class Board {
 
     private Color activeColor;
 
+    /**
+     * Position version: incremented whenever the position or game state changes
+     * through this class. Caches keyed by position compare against it.
+     */
+    private long version;
+
+    /** Last status recorded by the end-condition rules (for UIs). */
+    private GameStatus gameStatus = GameStatus.ONGOING;
+
+    // Memoised evaluateStatus result for (statusVersion, statusColor)
+    private long statusVersion = -1;
+    private Color statusColor;
+    private GameStatus cachedStatus;
+    private boolean cachedInCheck;
+
+    // FEN memoised for fenVersion
+    private long fenVersion = -1;
+    private String fen;
+
+    // Position hash memoised for hashVersion
+    private long hashVersion = -1;
+    private long positionHash;
+
+    /** Legal targets per (position hash, square), shared by selection and validation. */
+    private LegalMoveCache legalMoveCache = new LegalMoveCache();
+
     private final List<Piece> pieces = new ArrayList<>();
     private final List<Rule> rules = new ArrayList<>();
 
+    /** Per-hook dispatch arrays compiled from {@link #rules}; rebuilt whenever the rules change. */
+    private RulePipeline pipeline = RulePipeline.EMPTY;
+
     // ---- Construction ----
 
     /**
@@ -53,27 +86,115 @@ public class Board {
         return FenAdapter.boardFromFen(fen);
     }
 
+    /**
+     * Detached copy of the position: dimensions, clocks, en passant target,
+     * side to move, game status and copies of all pieces.
+     * Rules are not copied; the legal-move cache is shared, so anything
+     * computed on the snapshot is reused by this board for the same position.
+     */
+    public Board snapshot() {
+        Board copy = new Board();
+        copy.width = width;
+        copy.height = height;
+        copy.halfmove = halfmove;
+        copy.fullmove = fullmove;
+        copy.enPassant[0] = enPassant[0];
+        copy.enPassant[1] = enPassant[1];
+        copy.activeColor = activeColor;
+        copy.gameStatus = gameStatus;
+        for (Piece p : pieces) copy.pieces.add(p.copy());
+        copy.legalMoveCache = legalMoveCache;
+        return copy;
+    }
+
+    /**
+     * Independent copy of the game: the {@link #snapshot()} plus a copy of
+     * every rule with its per-game state (see {@link Rule#copy()}), and its
+     * own legal-move cache. The copy is already started; play it directly.
+     */
+    public Board copy() {
+        Board copy = snapshot();
+        copy.legalMoveCache = new LegalMoveCache();
+        List<Rule> ruleCopies = new ArrayList<>(rules.size());
+        for (Rule rule : rules) ruleCopies.add(rule.copy());
+        copy.setRules(ruleCopies);
+        return copy;
+    }
+
     // ---- Encapsulation: dimensions & clocks ----
 
     public int getWidth()  { return width; }
     public int getHeight() { return height; }
 
-    public void setWidth(int width)   { this.width = width; }
-    public void setHeight(int height) { this.height = height; }
+    public void setWidth(int width)   { this.width = width; markChanged(); }
+    public void setHeight(int height) { this.height = height; markChanged(); }
 
     public int getHalfmove() { return halfmove; }
-    public void setHalfmove(int halfmove) { this.halfmove = halfmove; }
-    public void increaseHalfmove() { this.halfmove++; }
-    public void resetHalfmove()    { this.halfmove = 0; }
+    public void setHalfmove(int halfmove) { this.halfmove = halfmove; markTurnChanged(); }
+    public void increaseHalfmove() { this.halfmove++; markTurnChanged(); }
+    public void resetHalfmove()    { this.halfmove = 0; markTurnChanged(); }
 
     public int getFullmove() { return fullmove; }
-    public void setFullmove(int fullmove) { this.fullmove = fullmove; }
-    public void increaseFullmove() { this.fullmove++; }
+    public void setFullmove(int fullmove) { this.fullmove = fullmove; markTurnChanged(); }
+    public void increaseFullmove() { this.fullmove++; markTurnChanged(); }
 
     // ---- Encapsulation: side to move ----
 
     public Color getActiveColor() { return activeColor; }
-    public void setActiveColor(Color activeColor) { this.activeColor = activeColor; }
+    public void setActiveColor(Color activeColor) { this.activeColor = activeColor; markTurnChanged(); }
+
+    // ---- Encapsulation: version & game status ----
+
+    public long getVersion() { return version; }
+
+    /**
+     * Marks the position as changed. Board setters and move helpers do this
+     * themselves; call it after mutating pieces directly (e.g. via getPieces()).
+     */
+    public void markChanged() { version++; }
+
+    /**
+     * Marks a change that cannot affect legal moves (clocks, side to move, or
+     * a final bump after hooks that already marked their own changes): the
+     * status memo stays valid if it was current.
+     */
+    private void markTurnChanged() {
+        boolean statusCurrent = (statusVersion == version);
+        version++;
+        if (statusCurrent) statusVersion = version;
+    }
+
+    /**
+     * 64-bit hash of the current position (see {@link PositionHash}), memoised per version.
+     */
+    public long getPositionHash() {
+        if (hashVersion != version) {
+            positionHash = PositionHash.of(this);
+            hashVersion = version;
+        }
+        return positionHash;
+    }
+
+    /**
+     * FEN of the current position (see {@link FenWriter}), memoised per version.
+     */
+    public String getFen() {
+        if (fenVersion != version) {
+            fen = FenWriter.toFen(this);
+            fenVersion = version;
+        }
+        return fen;
+    }
+
+    public LegalMoveCache getLegalMoveCache() { return legalMoveCache; }
+    public void setLegalMoveCache(LegalMoveCache cache) {
+        this.legalMoveCache = (cache != null) ? cache : new LegalMoveCache();
+    }
+
+    public GameStatus getGameStatus() { return gameStatus; }
+    public void setGameStatus(GameStatus gameStatus) {
+        this.gameStatus = (gameStatus != null) ? gameStatus : GameStatus.ONGOING;
+    }
 
     // ---- Encapsulation: pieces ----
 
@@ -86,15 +207,31 @@ public class Board {
     public void setPieces(List<Piece> newPieces) {
         pieces.clear();
         if (newPieces != null) pieces.addAll(newPieces);
+        markChanged();
     }
 
     // ---- Encapsulation: rules ----
 
-    public List<Rule> getRules() { return rules; }
+    /**
+     * Returns a read-only view of the rules.
+     * Use {@link #setRules(List)} to change them so the pipeline is recompiled.
+     */
+    public List<Rule> getRules() { return Collections.unmodifiableList(rules); }
+
+    /**
+     * First rule of the given type, or null if none is configured.
+     */
+    public <T extends Rule> T findRule(Class<T> type) {
+        for (Rule rule : rules) {
+            if (type.isInstance(rule)) return type.cast(rule);
+        }
+        return null;
+    }
 
     public void setRules(List<Rule> newRules) {
         rules.clear();
         if (newRules != null) rules.addAll(newRules);
+        pipeline = RulePipeline.compile(rules);
     }
 
     /**
@@ -103,10 +240,19 @@ public class Board {
      */
     public void ensureRules() {
         if (rules.isEmpty()) {
-            rules.addAll(RuleBuilder.defaultRules());
+            setRules(RuleBuilder.defaultRules());
         }
     }
 
+    /**
+     * Runs the onGameStart hook of every rule that defines one.
+     * Call once after the position and rules are set up.
+     */
+    public void startGame() {
+        ensureRules();
+        pipeline.onGameStart(this);
+    }
+
     // ---- Encapsulation: en passant target ----
 
     public void setEnPassant(int[] xy) {
@@ -117,6 +263,7 @@ public class Board {
             enPassant[0] = xy[0];
             enPassant[1] = xy[1];
         }
+        markChanged();
     }
 
     /**
@@ -126,9 +273,16 @@ public class Board {
         return new int[] { enPassant[0], enPassant[1] };
     }
 
+    /** En passant target file index, or -1 if none. */
+    public int getEnPassantX() { return enPassant[0]; }
+
+    /** En passant target row index, or -1 if none. */
+    public int getEnPassantY() { return enPassant[1]; }
+
     public void clearEnPassant() {
         enPassant[0] = -1;
         enPassant[1] = -1;
+        markChanged();
     }
 
     // =====================================================================
@@ -137,60 +291,295 @@ public class Board {
     /**
      * Applies a move and returns a model-only MoveResult
      * (from, to, captured piece).
+     * Thin wrapper over {@link #tryApplyTurn(String, String)} that keeps the
+     * exception contract: invalid moves (bad squares, no piece, unreachable
+     * destination) throw IllegalArgumentException; moves the game state does
+     * not allow (wrong side to move, own king left in check, game over) throw
+     * IllegalStateException; game-ending moves are applied and then throw
+     * IllegalStateException. Once the piece's legal targets are cached for the
+     * position, any move outside them is reported as an unreachable destination
+     * (IllegalArgumentException), including one that would leave the king in check.
+     */
+    public MoveResult applyTurnWithResult(String from, String to) {
+        MoveResult result = tryApplyTurn(from, to);
+        switch (result.getStatus()) {
+            case ILLEGAL -> throw (result.getRejection() == MoveResult.Rejection.INVALID_STATE)
+                    ? new IllegalStateException(result.getMessage())
+                    : new IllegalArgumentException(result.getMessage());
+            case CHECKMATE, STALEMATE, DRAW -> throw new IllegalStateException(result.getMessage());
+            default -> { return result; }
+        }
+    }
+
+    /**
+     * Applies a move without using exceptions for expected outcomes.
      * The move pipeline is:
      *  1) validateMove on all rules
      *  2) beforeMove on all rules
      *  3) core move (piece position update)
      *  4) afterMove on all rules
      *  5) afterTurn on all rules
+     * Each stage only visits the rules that override that hook (see {@link RulePipeline}).
      * Rules and helpers must record captures via {@link MoveContext#setCapturedPiece(Piece)}.
+     * Returns {@link MoveResult.Status#ILLEGAL} with a reason if the move is rejected
+     * (board unchanged), or APPLIED / CHECKMATE / STALEMATE / DRAW once it is played.
      */
-    public MoveResult applyTurnWithResult(String from, String to) {
-        int[] fromXY = fromAlg(from);
-        int[] toXY   = fromAlg(to);
+    public MoveResult tryApplyTurn(String from, String to) {
+        int[] fromXY = parseSquare(from);
+        int[] toXY   = parseSquare(to);
         if (fromXY == null || toXY == null) {
-            throw new IllegalArgumentException("Invalid (null) move coordinates");
+            return MoveResult.illegal("Invalid move coordinates: " + from + "-" + to);
+        }
+        if (gameStatus.isOver()) {
+            return MoveResult.illegal(MoveResult.Rejection.INVALID_STATE, "Game is over");
         }
 
         Piece movingPiece = getPieceAt(fromXY[0], fromXY[1]);
         if (movingPiece == null) {
-            throw new IllegalArgumentException("No piece at source square: " + from);
+            return MoveResult.illegal("No piece at source square: " + from);
         }
 
         ensureRules();
 
         MoveContext ctx = new MoveContext(movingPiece, fromXY, toXY);
 
-        // 1) Validation
-        for (Rule rule : rules) {
-            rule.validateMove(this, ctx);
+        // 1) Validation (rules that still throw are treated as rejections of the matching kind)
+        try {
+            pipeline.validateMove(this, ctx);
+        } catch (IllegalArgumentException ex) {
+            ctx.reject(ex.getMessage());
+        } catch (IllegalStateException ex) {
+            ctx.reject(MoveResult.Rejection.INVALID_STATE, ex.getMessage());
+        }
+        if (ctx.isRejected()) {
+            return MoveResult.illegal(ctx.rejectionKind, ctx.rejection);
         }
 
+        return play(ctx);
+    }
+
+    /**
+     * Runs the move pipeline after validation (or instead of it, for trusted replay).
+     */
+    private MoveResult play(MoveContext ctx) {
+        UndoRecord.State before = saveState();
+
         // 2) Pre-move hooks
-        for (Rule rule : rules) {
-            rule.beforeMove(this, ctx);
-        }
+        pipeline.beforeMove(this, ctx);
 
         // 3) Core move (pure position update)
         performCoreMove(ctx);
 
-        // 4) Post-move hooks
-        for (Rule rule : rules) {
-            rule.afterMove(this, ctx);
+        // 4) Post-move hooks (end conditions run last and memoise the status
+        //    of the final position, which the UI then queries for free)
+        pipeline.afterMove(this, ctx);
+        markTurnChanged();
+
+        // 5) End-of-turn hooks (clocks, side to move, draws)
+        pipeline.afterTurn(this, ctx);
+        markTurnChanged();
+
+        List<PieceDelta> deltas = List.copyOf(ctx.deltas);
+        return new MoveResult(
+            new int[] { ctx.fromXY[0], ctx.fromXY[1] },
+            new int[] { ctx.toXY[0], ctx.toXY[1] },
+            ctx.getCapturedPiece(),
+            toResultStatus(ctx.gameStatus),
+            ctx.gameMessage,
+            deltas,
+            new UndoRecord(deltas, before, saveState())
+        );
+    }
+
+    /**
+     * Replays a list of plies in history format ("e2-e4") that are already known
+     * to be legal (e.g. from our own storage). Validation rules are skipped, and
+     * end conditions are only evaluated after the final ply.
+     * Each ply still gets a quick consistency check (squares on the board, a piece
+     * of the side to move on the source square, no own piece on the destination);
+     * the first failure stops the replay and is returned as ILLEGAL with the ply
+     * index. The board then stays at the position before that ply.
+     * {@code onApplied} (may be null) receives the result of every applied ply.
+     * Returns the result of the final ply, or an APPLIED result with no move for an empty list.
+     */
+    public MoveResult replayTrusted(List<String> plies, Consumer<MoveResult> onApplied) {
+        ensureRules();
+        MoveResult last = new MoveResult(null, null, null);
+        for (int i = 0, n = plies.size(); i < n; i++) {
+            String ply = plies.get(i);
+            String problem = null;
+            MoveContext ctx = null;
+
+            int dash = (ply != null) ? ply.indexOf('-') : -1;
+            int[] fromXY = (dash > 0) ? parseSquare(ply.substring(0, dash)) : null;
+            int[] toXY   = (dash > 0) ? parseSquare(ply.substring(dash + 1)) : null;
+            if (fromXY == null || toXY == null) {
+                problem = "invalid ply";
+            } else if (gameStatus.isOver()) {
+                problem = "game is over";
+            } else {
+                Piece movingPiece = getPieceAt(fromXY[0], fromXY[1]);
+                Piece target = getPieceAt(toXY[0], toXY[1]);
+                if (movingPiece == null) {
+                    problem = "no piece on source square";
+                } else if (activeColor != null && !activeColor.equals(movingPiece.getColor())) {
+                    problem = "not " + movingPiece.getColor() + "'s turn";
+                } else if (target != null && target.getColor().equals(movingPiece.getColor())) {
+                    problem = "destination holds an own piece";
+                } else {
+                    ctx = new MoveContext(movingPiece, fromXY, toXY);
+                }
+            }
+            if (problem != null) {
+                return MoveResult.illegal("Replay failed at ply " + (i + 1) + " (" + ply + "): " + problem);
+            }
+
+            ctx.skipEndConditions = (i < n - 1);
+            last = play(ctx);
+            if (onApplied != null) onApplied.accept(last);
         }
+        return last;
+    }
 
-        // 5) End-of-turn hooks
-        for (Rule rule : rules) {
-            rule.afterTurn(this, ctx);
+    /**
+     * Plays a move that is already known to be legal (e.g. a target from
+     * {@link #computeLegalTargetSquares(Piece)} for a piece of the side to move)
+     * without validation or any checks. With {@code skipEndConditions} the
+     * end-condition rules are skipped, as for all but the last ply of
+     * {@link #replayTrusted}; search code (perft) uses this with {@link #unmake}.
+     */
+    public MoveResult playTrusted(Piece piece, int toX, int toY, boolean skipEndConditions) {
+        ensureRules();
+        MoveContext ctx = new MoveContext(piece, new int[] { piece.posX, piece.posY }, new int[] { toX, toY });
+        ctx.skipEndConditions = skipEndConditions;
+        return play(ctx);
+    }
+
+    /**
+     * Takes back a move applied by {@link #tryApplyTurn(String, String)}:
+     * reverts its piece deltas and restores the scalar state and rule state
+     * from before the move. Cost is proportional to the number of changes,
+     * not the board size. Records must be undone in reverse order of application.
+     */
+    public void unmake(UndoRecord undo) {
+        List<PieceDelta> deltas = undo.getDeltas();
+        for (int i = deltas.size() - 1; i >= 0; i--) {
+            PieceDelta d = deltas.get(i);
+            Piece p = d.getPiece();
+            switch (d.getKind()) {
+                case MOVED         -> p.setPosition(d.getFromX(), d.getFromY());
+                case REMOVED       -> { p.setPosition(d.getFromX(), d.getFromY()); pieces.add(p); }
+                case ADDED         -> pieces.remove(p);
+                case COLOR_CHANGED -> p.setColor(d.getOldColor());
+            }
         }
+        restoreState(undo.before);
+    }
 
-        Piece captured = ctx.getCapturedPiece();
+    /**
+     * Re-applies a move taken back with {@link #unmake(UndoRecord)} without
+     * re-running the rules. Only valid directly after that unmake (redo).
+     */
+    public void remake(UndoRecord undo) {
+        for (PieceDelta d : undo.getDeltas()) {
+            Piece p = d.getPiece();
+            switch (d.getKind()) {
+                case MOVED         -> p.setPosition(d.getToX(), d.getToY());
+                case REMOVED       -> pieces.remove(p);
+                case ADDED         -> { p.setPosition(d.getToX(), d.getToY()); pieces.add(p); }
+                case COLOR_CHANGED -> p.setColor(d.getNewColor());
+            }
+        }
+        restoreState(undo.after);
+    }
 
-        return new MoveResult(
-            new int[] { fromXY[0], fromXY[1] },
-            new int[] { toXY[0], toXY[1] },
-            captured
-        );
+    /**
+     * Replays a recorded move on another board holding the same position
+     * (e.g. a {@link #snapshot()} of the board the move was played on).
+     * {@code pieceMap} maps the pieces referenced by the record to this board's
+     * pieces and is updated with copies of any pieces the move added.
+     * Rule state is not replayed; this is meant for read-only copies.
+     */
+    public void remake(UndoRecord undo, Map<Piece, Piece> pieceMap) {
+        for (PieceDelta d : undo.getDeltas()) {
+            Piece p = pieceMap.get(d.getPiece());
+            if (d.getKind() == PieceDelta.Kind.ADDED) {
+                p = d.getPiece().copy();
+                pieceMap.put(d.getPiece(), p);
+            }
+            if (p == null) {
+                throw new IllegalStateException("Replayed move references an unknown piece: " + d);
+            }
+            switch (d.getKind()) {
+                case MOVED         -> p.setPosition(d.getToX(), d.getToY());
+                case REMOVED       -> pieces.remove(p);
+                case ADDED         -> { p.setPosition(d.getToX(), d.getToY()); pieces.add(p); }
+                case COLOR_CHANGED -> p.setColor(d.getNewColor());
+            }
+        }
+        restoreState(undo.after);
+    }
+
+    private UndoRecord.State saveState() {
+        return new UndoRecord.State(activeColor, halfmove, fullmove, enPassant[0], enPassant[1],
+                                    getCastlingMask(), gameStatus, pipeline.saveState());
+    }
+
+    /**
+     * Castling rights of both kings as a bit mask:
+     * bit 0/1 = white king/queen side, bit 2/3 = black king/queen side.
+     */
+    public int getCastlingMask() {
+        int mask = 0;
+        King wk = getKing(Color.WHITE);
+        King bk = getKing(Color.BLACK);
+        if (wk != null && wk.canCastleKingSide())  mask |= 1;
+        if (wk != null && wk.canCastleQueenSide()) mask |= 2;
+        if (bk != null && bk.canCastleKingSide())  mask |= 4;
+        if (bk != null && bk.canCastleQueenSide()) mask |= 8;
+        return mask;
+    }
+
+    /**
+     * Sets the castling rights of both kings from a {@link #getCastlingMask()} value.
+     */
+    public void setCastlingMask(int mask) {
+        applyCastlingMask(mask);
+        markChanged();
+    }
+
+    private void applyCastlingMask(int mask) {
+        King wk = getKing(Color.WHITE);
+        King bk = getKing(Color.BLACK);
+        if (wk != null) {
+            wk.setCastleKingSide((mask & 1) != 0);
+            wk.setCastleQueenSide((mask & 2) != 0);
+        }
+        if (bk != null) {
+            bk.setCastleKingSide((mask & 4) != 0);
+            bk.setCastleQueenSide((mask & 8) != 0);
+        }
+    }
+
+    private void restoreState(UndoRecord.State state) {
+        activeColor = state.activeColor;
+        halfmove = state.halfmove;
+        fullmove = state.fullmove;
+        enPassant[0] = state.epX;
+        enPassant[1] = state.epY;
+        applyCastlingMask(state.castling);
+        gameStatus = state.gameStatus;
+        pipeline.restoreState(state.ruleStates);
+        markChanged();
+    }
+
+    private static MoveResult.Status toResultStatus(GameStatus status) {
+        return switch (status) {
+            case CHECKMATE -> MoveResult.Status.CHECKMATE;
+            case STALEMATE -> MoveResult.Status.STALEMATE;
+            case DRAW_FIFTY_MOVES, DRAW_REPETITION -> MoveResult.Status.DRAW;
+            default        -> MoveResult.Status.APPLIED;
+        };
     }
 
     /**
@@ -199,6 +588,8 @@ public class Board {
      */
     private void performCoreMove(MoveContext ctx) {
         ctx.piece.setPosition(ctx.toXY[0], ctx.toXY[1]);
+        ctx.record(PieceDelta.moved(ctx.piece, ctx.fromXY[0], ctx.fromXY[1], ctx.toXY[0], ctx.toXY[1]));
+        markChanged();
     }
 
     // =====================================================================
@@ -231,6 +622,29 @@ public class Board {
         return "" + file + rank;
     }
 
+    /**
+     * Non-throwing variant of {@link #fromAlg(String)} for on-board squares:
+     * returns null if the square is malformed or outside the board.
+     */
+    public int[] parseSquare(String alg) {
+        if (alg == null) return null;
+        String trimmed = alg.trim();
+        if (trimmed.length() < 2) return null;
+
+        int file = Character.toLowerCase(trimmed.charAt(0)) - 'a';
+        if (file < 0 || file >= width) return null;
+
+        int rank = 0;
+        for (int i = 1; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c < '0' || c > '9') return null;
+            rank = rank * 10 + (c - '0');
+            if (rank > height) return null;
+        }
+        if (rank < 1) return null;
+        return new int[] { file, height - rank };
+    }
+
     /**
      * Parses algebraic notation (e.g. "e4") into board coordinates [x,y].
      * "-" is mapped to [-1, -1].
@@ -282,21 +696,51 @@ public class Board {
     /**
      * Compute legal targets for a given piece, filtering out moves
      * that would leave its own king in check.
-     * This is pure model logic: no UI state is stored.
+     * Results are cached per (position hash, square) in the board's
+     * {@link LegalMoveCache}, so an unchanged position never regenerates them.
+     * Returns an immutable set.
+     */
+    public SquareSet computeLegalTargetSquares(Piece p) {
+        SquareSet cached = getCachedLegalTargetSquares(p);
+        if (cached != null) return cached;
+
+        SquareSet targets = generateLegalTargets(p);
+        legalMoveCache.put(getPositionHash(), squareIndex(p.posX, p.posY), targets);
+        return targets;
+    }
+
+    /**
+     * Legal targets for {@code p} if already cached for this position, otherwise null.
+     */
+    public SquareSet getCachedLegalTargetSquares(Piece p) {
+        return legalMoveCache.get(getPositionHash(), squareIndex(p.posX, p.posY));
+    }
+
+    /**
+     * Algebraic view of {@link #computeLegalTargetSquares(Piece)} ("e4", ...).
      */
     public Set<String> computeLegalTargets(Piece p) {
+        return computeLegalTargetSquares(p).asAlgebraic();
+    }
+
+    private SquareSet generateLegalTargets(Piece p) {
         Set<String> raw = p.getLegalMoves(this);
-        if (raw == null || raw.isEmpty()) return Set.of();
+        if (raw == null || raw.isEmpty()) return SquareSet.empty();
 
-        Set<String> filtered = new LinkedHashSet<>();
+        SquareSet.Builder filtered = new SquareSet.Builder(width, height);
         int[] from = p.getXY();
         for (String alg : raw) {
             int[] to = fromAlg(alg);
             if (!wouldLeaveOwnKingInCheck(p, from, to)) {
-                filtered.add(alg.toLowerCase());
+                filtered.add(to[0], to[1]);
             }
         }
-        return filtered;
+        return filtered.build();
+    }
+
+    /** Row-major square index (y * width + x). */
+    public int squareIndex(int x, int y) {
+        return y * width + x;
     }
 
     /**
@@ -422,7 +866,14 @@ public class Board {
     //  Game state evaluation (check, mate, any-legal-moves)
     // =====================================================================
 
+    /**
+     * Whether {@code color}'s king is attacked. Answered from the last
+     * {@link #evaluateStatus} of this position when there is one.
+     */
     public boolean isInCheck(Color color) {
+        if (statusVersion == version && color.equals(statusColor)) {
+            return cachedInCheck;
+        }
         King k = getKing(color);
         int[] kingXY = (k != null) ? k.getXY() : null;
         if (kingXY == null) return false; // No king found; treat as not in check.
@@ -430,19 +881,216 @@ public class Board {
     }
 
     public boolean hasNoLegalMoves(Color color) {
+        King king = getKing(color);
+        List<Piece> checkers = (king != null) ? findAttackers(color.opposite(), king.posX, king.posY) : List.of();
+        return !hasAnyLegalMove(color, king, checkers);
+    }
+
+    /**
+     * Single evaluation of the position for {@code color}: checkmate, stalemate or ongoing.
+     * Check is detected once, and the legal-move search stops at the first legal move.
+     * The result is memoised per position version, so repeated calls (e.g. from the UI)
+     * for an unchanged position are free.
+     */
+    public GameStatus evaluateStatus(Color color) {
+        if (statusVersion == version && color.equals(statusColor)) {
+            return cachedStatus;
+        }
+        King king = getKing(color);
+        List<Piece> checkers = (king != null) ? findAttackers(color.opposite(), king.posX, king.posY) : List.of();
+        return evaluateStatus(color, king, checkers);
+    }
+
+    /**
+     * Like {@link #evaluateStatus(Color)}, but right after a move by the other
+     * side, whose piece deltas are given: check is detected incrementally with
+     * {@link #findCheckersAfterMove} instead of scanning every piece's attacks.
+     * Only valid if {@code color} was not in check before that move (i.e. the
+     * move was the first of its side's turn); falls back to the full scan for
+     * moves the incremental test does not cover.
+     */
+    public GameStatus evaluateStatusAfterMove(Color color, List<PieceDelta> moveDeltas) {
+        if (statusVersion == version && color.equals(statusColor)) {
+            return cachedStatus;
+        }
+        King king = getKing(color);
+        if (king == null) {
+            return evaluateStatus(color, null, List.of());
+        }
+        List<Piece> checkers = findCheckersAfterMove(king, moveDeltas);
+        if (checkers == null) {
+            checkers = findAttackers(color.opposite(), king.posX, king.posY);
+        }
+        return evaluateStatus(color, king, checkers);
+    }
+
+    /** True if the status of {@code color} is memoised for the current position. */
+    boolean isStatusMemoised(Color color) {
+        return statusVersion == version && color.equals(statusColor);
+    }
+
+    private GameStatus evaluateStatus(Color color, King king, List<Piece> checkers) {
+        boolean inCheck = !checkers.isEmpty();
+
+        GameStatus status;
+        if (hasAnyLegalMove(color, king, checkers)) {
+            status = GameStatus.ONGOING;
+        } else {
+            status = inCheck ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+        }
+
+        statusVersion = version;
+        statusColor = color;
+        cachedStatus = status;
+        cachedInCheck = inCheck;
+        return status;
+    }
+
+    /**
+     * Pieces checking {@code king} after a move by the other side, derived from
+     * the move's deltas only: a move can give check directly from a piece it
+     * moved (the mover or a castling rook), or by discovery along the line from
+     * the king through a square it vacated.
+     * Assumes the king was not in check before the move. Returns null if the
+     * deltas contain anything else (en passant, relocations, color changes,
+     * added pieces); callers then fall back to {@link #findAttackers}.
+     */
+    public List<Piece> findCheckersAfterMove(King king, List<PieceDelta> deltas) {
+        if (deltas.isEmpty() || deltas.get(0).getKind() != PieceDelta.Kind.MOVED) return null;
+
+        Color byColor = king.getColor().opposite();
+        PieceDelta first = deltas.get(0);
+        int moves = 0;
+        for (PieceDelta d : deltas) {
+            switch (d.getKind()) {
+                case MOVED -> {
+                    if (++moves > 2 || !byColor.equals(d.getPiece().getColor())) return null;
+                }
+                case REMOVED -> {
+                    // Only a regular capture on the mover's destination.
+                    if (d.getFromX() != first.getToX() || d.getFromY() != first.getToY()) return null;
+                }
+                default -> { return null; }
+            }
+        }
+
+        int kx = king.posX, ky = king.posY;
+        List<Piece> out = new ArrayList<>(2);
+        for (PieceDelta d : deltas) {
+            if (d.getKind() != PieceDelta.Kind.MOVED) continue;
+
+            // Direct check from the moved piece
+            Piece moved = d.getPiece();
+            if (!out.contains(moved) && attacks(moved, kx, ky)) out.add(moved);
+
+            // Discovered check through the vacated square
+            int dx = d.getFromX() - kx, dy = d.getFromY() - ky;
+            if ((dx == 0 && dy == 0) || (dx != 0 && dy != 0 && Math.abs(dx) != Math.abs(dy))) continue;
+            Piece behind = firstPieceOnRay(kx, ky, Integer.signum(dx), Integer.signum(dy));
+            if (behind != null && byColor.equals(behind.getColor())
+                    && !out.contains(behind) && attacks(behind, kx, ky)) {
+                out.add(behind);
+            }
+        }
+        return out;
+    }
+
+    private boolean attacks(Piece p, int x, int y) {
+        for (int[] sq : p.attackedSquares(this)) {
+            if (sq[0] == x && sq[1] == y) return true;
+        }
+        return false;
+    }
+
+    private Piece firstPieceOnRay(int x, int y, int dx, int dy) {
+        x += dx;
+        y += dy;
+        while (inBounds(x, y)) {
+            Piece at = getPieceAt(x, y);
+            if (at != null) return at;
+            x += dx;
+            y += dy;
+        }
+        return null;
+    }
+
+    /**
+     * Searches for any legal move of {@code color}, cheapest candidates first:
+     *  1) king steps (the only escape from a double check),
+     *  2) captures of a single checker,
+     *  3) everything else.
+     * Returns as soon as one legal move is found.
+     */
+    private boolean hasAnyLegalMove(Color color, King king, List<Piece> checkers) {
+        // Iterate over a snapshot: the simulation temporarily removes captured pieces.
+        Piece[] own = ownPieces(color);
+
+        if (king != null && hasLegalMove(king, null)) return true;
+        if (checkers.size() > 1) return false;
+
+        int[] checkerXY = checkers.isEmpty() ? null : checkers.get(0).getXY();
+        if (checkerXY != null) {
+            String checkerAlg = toAlg(checkerXY[0], checkerXY[1]);
+            for (Piece p : own) {
+                if (p == king) continue;
+                Set<String> moves = p.getLegalMoves(this);
+                if (moves != null && moves.contains(checkerAlg)
+                        && !wouldLeaveOwnKingInCheck(p, p.getXY(), checkerXY)) {
+                    return true;
+                }
+            }
+        }
+
+        for (Piece p : own) {
+            if (p == king) continue;
+            if (hasLegalMove(p, checkerXY)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * True if {@code p} has a legal move, ignoring the destination {@code skipXY}
+     * (already tried by the caller).
+     */
+    private boolean hasLegalMove(Piece p, int[] skipXY) {
+        Set<String> moves = p.getLegalMoves(this);
+        if (moves == null || moves.isEmpty()) return false;
+
+        int[] from = p.getXY();
+        for (String alg : moves) {
+            int[] toXY = fromAlg(alg);
+            if (skipXY != null && toXY[0] == skipXY[0] && toXY[1] == skipXY[1]) continue;
+            if (!wouldLeaveOwnKingInCheck(p, from, toXY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Piece[] ownPieces(Color color) {
+        List<Piece> own = new ArrayList<>();
         for (Piece p : pieces) {
-            if (p.getColor() == null || !p.getColor().equals(color)) continue;
-            Set<String> moves = p.getLegalMoves(this);
-            if (moves == null || moves.isEmpty()) continue;
-
-            for (String alg : moves) {
-                int[] toXY = fromAlg(alg);
-                if (!wouldLeaveOwnKingInCheck(p, p.getXY(), toXY)) {
-                    return false;
+            if (p.getColor() != null && p.getColor().equals(color)) own.add(p);
+        }
+        return own.toArray(new Piece[0]);
+    }
+
+    /**
+     * Returns all pieces of {@code byColor} attacking square (x,y).
+     */
+    public List<Piece> findAttackers(Color byColor, int x, int y) {
+        List<Piece> out = new ArrayList<>(2);
+        for (Piece p : pieces) {
+            if (p.getColor().equals(byColor)) {
+                for (int[] sq : p.attackedSquares(this)) {
+                    if (sq[0] == x && sq[1] == y) {
+                        out.add(p);
+                        break;
+                    }
                 }
             }
         }
-        return true;
+        return out;
     }
 
     // =====================================================================
@@ -474,6 +1122,8 @@ public class Board {
             }
             pieces.remove(epPawn);
             ctx.setCapturedPiece(epPawn);
+            ctx.record(PieceDelta.removed(epPawn, epPawn.posX, epPawn.posY));
+            markChanged();
             return true;
         }
         return false;
@@ -484,23 +1134,25 @@ public class Board {
      * disables king castling rights and clears en passant target.
      * Rules should call this if they detect a castling move.
      */
-    public void handleCastling(King king, int[] fromXY, int[] toXY) {
+    public void handleCastling(King king, int[] fromXY, int[] toXY, MoveContext ctx) {
         int rankY = fromXY[1];
         if (toXY[0] > fromXY[0]) {
             // King-side castle: move rook from nearest right rook to f-file (x = fromX + 1)
-            Piece rook = findFirstRookOnRay(fromXY[0], rankY, +1, 0, king.getColor());
+            Piece rook = findCastlingRook(king, fromXY[0], rankY, +1);
             if (!(rook instanceof Rook)) {
                 throw new IllegalStateException("No rook found for king-side castling");
             }
             int rookToX = fromXY[0] + 1;
+            ctx.record(PieceDelta.moved(rook, rook.posX, rook.posY, rookToX, rankY));
             rook.setPosition(rookToX, rankY);
         } else {
             // Queen-side castle: move rook from nearest left rook to d-file (x = fromX - 1)
-            Piece rook = findFirstRookOnRay(fromXY[0], rankY, -1, 0, king.getColor());
+            Piece rook = findCastlingRook(king, fromXY[0], rankY, -1);
             if (!(rook instanceof Rook)) {
                 throw new IllegalStateException("No rook found for queen-side castling");
             }
             int rookToX = fromXY[0] - 1;
+            ctx.record(PieceDelta.moved(rook, rook.posX, rook.posY, rookToX, rankY));
             rook.setPosition(rookToX, rankY);
         }
 
@@ -508,6 +1160,24 @@ public class Board {
         king.setCastleKingSide(false);
         king.setCastleQueenSide(false);
         clearEnPassant();
+        markChanged();
+    }
+
+    /**
+     * Like {@link #findFirstRookOnRay} from the king's origin square, but steps over
+     * the king itself: castling is resolved after the core move, when the king
+     * already stands between its origin and the rook.
+     */
+    private Piece findCastlingRook(King king, int fromX, int y, int dx) {
+        int x = fromX + dx;
+        while (inBounds(x, y)) {
+            Piece at = getPieceAt(x, y);
+            if (at != null && at != king) {
+                return (at instanceof Rook && at.getColor().equals(king.getColor())) ? at : null;
+            }
+            x += dx;
+        }
+        return null;
     }
 
     public void updateCastlingRights(Piece mover,
@@ -568,6 +1238,8 @@ public class Board {
         if (captured != null) {
             pieces.remove(captured);
             ctx.setCapturedPiece(captured);
+            ctx.record(PieceDelta.removed(captured, captured.posX, captured.posY));
+            markChanged();
         }
     }
 
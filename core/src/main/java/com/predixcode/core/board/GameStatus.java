@@ -0,0 +1,20 @@
+package com.predixcode.core.board;
+
+/**
+ * Outcome of evaluating a position for the side to move.
+ */
+public enum GameStatus {
+    ONGOING,
+    CHECKMATE,
+    STALEMATE,
+    DRAW_FIFTY_MOVES,
+    DRAW_REPETITION;
+
+    public boolean isOver() {
+        return this != ONGOING;
+    }
+
+    public boolean isDraw() {
+        return this == DRAW_FIFTY_MOVES || this == DRAW_REPETITION;
+    }
+}
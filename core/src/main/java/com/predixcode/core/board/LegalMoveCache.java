@@ -0,0 +1,53 @@
+package com.predixcode.core.board;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small LRU cache of legal (self-check filtered) targets,
+ * keyed by position hash + from-square.
+ * A move changes the position hash, so entries of earlier positions are
+ * simply never hit again and age out; returning to an earlier position
+ * (e.g. reselecting, or after a takeback) reuses them.
+ * Thread-safe so background precomputation can fill it.
+ */
+public final class LegalMoveCache {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private record Key(long positionHash, int square) {}
+
+    private final Map<Key, SquareSet> entries;
+
+    public LegalMoveCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LegalMoveCache(int capacity) {
+        final int max = Math.max(1, capacity);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SquareSet> eldest) {
+                return size() > max;
+            }
+        };
+    }
+
+    /** Cached targets or null if unknown. */
+    public synchronized SquareSet get(long positionHash, int square) {
+        return entries.get(new Key(positionHash, square));
+    }
+
+    /** Stores an immutable target set. */
+    public synchronized void put(long positionHash, int square, SquareSet targets) {
+        entries.put(new Key(positionHash, square), targets);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
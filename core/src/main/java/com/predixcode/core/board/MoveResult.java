@@ -1,22 +1,102 @@
 package com.predixcode.core.board;
 
+import java.util.List;
+
 import com.predixcode.core.board.pieces.Piece;
 
 /**
  * Pure model-level result of applying a move on the Board.
+ * Carries a {@link Status} instead of throwing: rejected moves and
+ * game-ending moves are reported here by {@link Board#tryApplyTurn(String, String)}.
+ * {@link #getDeltas()} lists every piece change of the move in order.
  */
 public final class MoveResult {
+
+    public enum Status { APPLIED, ILLEGAL, CHECKMATE, STALEMATE, DRAW }
+
+    /**
+     * Why an ILLEGAL move was rejected: the move itself is invalid (bad squares,
+     * no piece, unreachable destination), or the game state does not allow it
+     * (wrong side to move, own king left in check, game over).
+     */
+    public enum Rejection { INVALID_MOVE, INVALID_STATE }
+
     private final int[] from;
     private final int[] to;
     private final Piece captured;
+    private final Status status;
+    private final String message;   // rejection reason or end-of-game message, null otherwise
+    private final Rejection rejection; // null unless ILLEGAL
+    private final List<PieceDelta> deltas;
+    private final UndoRecord undo;    // null for rejected moves
 
     public MoveResult(int[] from, int[] to, Piece captured) {
+        this(from, to, captured, Status.APPLIED, null, List.of());
+    }
+
+    public MoveResult(int[] from, int[] to, Piece captured,
+                      Status status, String message, List<PieceDelta> deltas) {
+        this(from, to, captured, status, message, deltas, null);
+    }
+
+    MoveResult(int[] from, int[] to, Piece captured,
+               Status status, String message, List<PieceDelta> deltas, UndoRecord undo) {
         this.from = from;
         this.to = to;
         this.captured = captured;
+        this.status = status;
+        this.message = message;
+        this.deltas = (deltas != null) ? List.copyOf(deltas) : List.of();
+        this.undo = undo;
+        this.rejection = null;
+    }
+
+    private MoveResult(Rejection rejection, String reason) {
+        this.from = null;
+        this.to = null;
+        this.captured = null;
+        this.status = Status.ILLEGAL;
+        this.message = reason;
+        this.deltas = List.of();
+        this.undo = null;
+        this.rejection = rejection;
+    }
+
+    /**
+     * Result for a move that was rejected; the board is unchanged.
+     */
+    public static MoveResult illegal(String reason) {
+        return illegal(Rejection.INVALID_MOVE, reason);
+    }
+
+    /** Rejected result of the given kind; the board is unchanged. */
+    public static MoveResult illegal(Rejection rejection, String reason) {
+        return new MoveResult(rejection, reason);
     }
 
     public int[] getFrom() { return from; }
     public int[] getTo() { return to; }
     public Piece getCaptured() { return captured; }
-}
\ No newline at end of file
+    public Status getStatus() { return status; }
+    public String getMessage() { return message; }
+
+    /** Kind of rejection for ILLEGAL results, null otherwise. */
+    public Rejection getRejection() { return rejection; }
+
+    /** Piece changes in application order (moved, removed, added, color-changed). Immutable. */
+    public List<PieceDelta> getDeltas() { return deltas; }
+
+    /**
+     * Takeback handle for this move (see {@link Board#unmake(UndoRecord)}),
+     * or null if the move was rejected.
+     */
+    public UndoRecord getUndoRecord() { return undo; }
+
+    /** True if the move was played (including moves that end the game). */
+    public boolean isApplied() { return status != Status.ILLEGAL; }
+
+    /** True if the move was played and ended the game. */
+    public boolean isGameOver() {
+        return status == Status.CHECKMATE || status == Status.STALEMATE || status == Status.DRAW;
+    }
+}
@@ -0,0 +1,68 @@
+package com.predixcode.core.board;
+
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.board.pieces.Piece;
+
+/**
+ * One change to one piece caused by a move, emitted by the rules in the
+ * order it was applied. Together, the deltas of a {@link MoveResult}
+ * describe every piece change of that move (castling rooks, en passant
+ * captures, Bureaucrat relocations and color flips included), so UIs and
+ * clients can update incrementally instead of rescanning the board.
+ */
+public final class PieceDelta {
+
+    public enum Kind { MOVED, REMOVED, ADDED, COLOR_CHANGED }
+
+    private final Kind kind;
+    private final Piece piece;
+    private final int fromX, fromY;   // MOVED: origin; otherwise the piece's square
+    private final int toX, toY;       // MOVED: destination; otherwise the piece's square
+    private final Color oldColor;     // COLOR_CHANGED only
+    private final Color newColor;     // COLOR_CHANGED only
+
+    private PieceDelta(Kind kind, Piece piece,
+                       int fromX, int fromY, int toX, int toY,
+                       Color oldColor, Color newColor) {
+        this.kind = kind;
+        this.piece = piece;
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.toX = toX;
+        this.toY = toY;
+        this.oldColor = oldColor;
+        this.newColor = newColor;
+    }
+
+    public static PieceDelta moved(Piece piece, int fromX, int fromY, int toX, int toY) {
+        return new PieceDelta(Kind.MOVED, piece, fromX, fromY, toX, toY, null, null);
+    }
+
+    public static PieceDelta removed(Piece piece, int x, int y) {
+        return new PieceDelta(Kind.REMOVED, piece, x, y, x, y, null, null);
+    }
+
+    public static PieceDelta added(Piece piece, int x, int y) {
+        return new PieceDelta(Kind.ADDED, piece, x, y, x, y, null, null);
+    }
+
+    public static PieceDelta colorChanged(Piece piece, int x, int y, Color oldColor, Color newColor) {
+        return new PieceDelta(Kind.COLOR_CHANGED, piece, x, y, x, y, oldColor, newColor);
+    }
+
+    public Kind getKind() { return kind; }
+    public Piece getPiece() { return piece; }
+    public int getFromX() { return fromX; }
+    public int getFromY() { return fromY; }
+    public int getToX() { return toX; }
+    public int getToY() { return toY; }
+    public Color getOldColor() { return oldColor; }
+    public Color getNewColor() { return newColor; }
+
+    @Override
+    public String toString() {
+        return kind + " " + piece.getSymbol() + " " + fromX + "," + fromY
+                + (kind == Kind.MOVED ? " -> " + toX + "," + toY : "")
+                + (kind == Kind.COLOR_CHANGED ? " " + oldColor + " -> " + newColor : "");
+    }
+}
@@ -0,0 +1,53 @@
+package com.predixcode.core.board;
+
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.board.pieces.King;
+import com.predixcode.core.board.pieces.Piece;
+
+/**
+ * 64-bit position hash (Zobrist-style XOR of per-feature keys).
+ * Keys are derived with a mixing function instead of fixed tables,
+ * so any board size works. Covers dimensions, pieces, side to move,
+ * castling rights and the en passant target.
+ */
+public final class PositionHash {
+
+    private static final long SIDE_WHITE = mix(0x5157L);
+    private static final long EP_SALT    = 0x0EB0_0000_0000L;
+    private static final long DIM_SALT   = 0xD1D1_0000_0000L;
+
+    private PositionHash() {}
+
+    public static long of(Board board) {
+        long h = mix(DIM_SALT ^ ((long) board.getWidth() << 16) ^ board.getHeight());
+
+        for (Piece p : board.getPieces()) {
+            h ^= pieceKey(p.getSymbol().charAt(0), p.posX, p.posY);
+            if (p instanceof King king) {
+                int rights = (king.canCastleKingSide() ? 1 : 0) | (king.canCastleQueenSide() ? 2 : 0);
+                if (rights != 0) h ^= mix(pieceKey(p.getSymbol().charAt(0), p.posX, p.posY) + rights);
+            }
+        }
+
+        if (Color.WHITE.equals(board.getActiveColor())) h ^= SIDE_WHITE;
+
+        int[] ep = board.getEnPassantXY();
+        if (ep[0] >= 0 && ep[1] >= 0) {
+            h ^= mix(EP_SALT ^ ((long) ep[0] << 16) ^ ep[1]);
+        }
+        return h;
+    }
+
+    /** Key for a piece symbol (FEN letter, case = color) on square (x,y). */
+    public static long pieceKey(char symbol, int x, int y) {
+        return mix(((long) symbol << 40) ^ ((long) x << 20) ^ y);
+    }
+
+    /** SplitMix64 finaliser: spreads any long into a well-distributed 64-bit key. */
+    public static long mix(long z) {
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,192 @@
+package com.predixcode.core.board;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable set of board squares stored as a bitset over the row-major
+ * square index (y * width + x), as used by {@link Board#squareIndex(int, int)}.
+ * Renderers scan it directly:
+ * <pre>
+ * for (int i = set.nextSquare(0); i >= 0; i = set.nextSquare(i + 1)) {
+ *     int x = set.xOf(i), y = set.yOf(i);
+ * }
+ * </pre>
+ * {@link #asAlgebraic()} gives a read-only {@code Set<String>} view ("e4", ...)
+ * for code that still works with algebraic squares.
+ */
+public final class SquareSet {
+
+    private static final SquareSet EMPTY = new SquareSet(0, 0, new long[0], 0);
+
+    private final int width;
+    private final int height;
+    private final long[] words;
+    private final int size;
+
+    private Set<String> algebraic; // lazily created view
+
+    private SquareSet(int width, int height, long[] words, int size) {
+        this.width = width;
+        this.height = height;
+        this.words = words;
+        this.size = size;
+    }
+
+    public static SquareSet empty() {
+        return EMPTY;
+    }
+
+    public int getWidth()  { return width; }
+    public int getHeight() { return height; }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public boolean contains(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        return containsIndex(y * width + x);
+    }
+
+    public boolean contains(int[] xy) {
+        return xy != null && xy.length >= 2 && contains(xy[0], xy[1]);
+    }
+
+    public boolean containsIndex(int index) {
+        int w = index >>> 6;
+        return index >= 0 && w < words.length && (words[w] & (1L << index)) != 0;
+    }
+
+    /**
+     * Index of the first square in the set at or after {@code fromIndex}, or -1 if none.
+     */
+    public int nextSquare(int fromIndex) {
+        if (fromIndex < 0) fromIndex = 0;
+        int w = fromIndex >>> 6;
+        if (w >= words.length) return -1;
+        long word = words[w] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) return (w << 6) + Long.numberOfTrailingZeros(word);
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+
+    public int xOf(int index) { return index % width; }
+    public int yOf(int index) { return index / width; }
+
+    /**
+     * Read-only view of the squares in algebraic notation, in index order.
+     */
+    public Set<String> asAlgebraic() {
+        Set<String> view = algebraic;
+        if (view == null) {
+            view = new AlgebraicView();
+            algebraic = view;
+        }
+        return view;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SquareSet other)) return false;
+        return width == other.width && height == other.height && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return asAlgebraic().toString();
+    }
+
+    private String toAlg(int index) {
+        return "" + (char) ('a' + xOf(index)) + (height - yOf(index));
+    }
+
+    private final class AlgebraicView extends AbstractSet<String> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof String s) || s.length() < 2) return false;
+            int x = Character.toLowerCase(s.charAt(0)) - 'a';
+            int rank = 0;
+            for (int i = 1; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') return false;
+                rank = rank * 10 + (c - '0');
+                if (rank > height) return false;
+            }
+            return SquareSet.this.contains(x, height - rank);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+                private int next = nextSquare(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public String next() {
+                    if (next < 0) throw new NoSuchElementException();
+                    String alg = toAlg(next);
+                    next = nextSquare(next + 1);
+                    return alg;
+                }
+            };
+        }
+    }
+
+    /**
+     * Mutable accumulator; {@link #build()} hands out an immutable set.
+     */
+    public static final class Builder {
+        private final int width;
+        private final int height;
+        private long[] words;
+        private int size;
+
+        public Builder(int width, int height) {
+            this.width = width;
+            this.height = height;
+            this.words = new long[(width * height + 63) >>> 6];
+        }
+
+        public Builder add(int x, int y) {
+            if (x < 0 || y < 0 || x >= width || y >= height) {
+                throw new IllegalArgumentException("Square out of range: " + x + "," + y);
+            }
+            int index = y * width + x;
+            long bit = 1L << index;
+            int w = index >>> 6;
+            if ((words[w] & bit) == 0) {
+                words[w] |= bit;
+                size++;
+            }
+            return this;
+        }
+
+        public SquareSet build() {
+            if (size == 0) return EMPTY;
+            SquareSet set = new SquareSet(width, height, words, size);
+            words = words.clone(); // keep the built set immutable if the builder is reused
+            return set;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.predixcode.core.board;
+
+import java.util.List;
+
+import com.predixcode.core.board.colors.Color;
+
+/**
+ * Everything needed to take back (and replay) one applied move in O(changes):
+ * the move's piece deltas plus the small scalar state before and after it
+ * (side to move, clocks, en passant target, castling rights, game status
+ * and the state of stateful rules such as the turn budget).
+ * Obtained from {@link MoveResult#getUndoRecord()}; records must be undone
+ * in reverse order of application (see {@link Board#unmake(UndoRecord)}).
+ */
+public final class UndoRecord {
+
+    /** Scalar board state around a move. */
+    static final class State {
+        final Color activeColor;
+        final int halfmove;
+        final int fullmove;
+        final int epX, epY;
+        final int castling;           // Board#getCastlingMask()
+        final GameStatus gameStatus;
+        final Object[] ruleStates;
+
+        State(Color activeColor, int halfmove, int fullmove, int epX, int epY,
+              int castling, GameStatus gameStatus, Object[] ruleStates) {
+            this.activeColor = activeColor;
+            this.halfmove = halfmove;
+            this.fullmove = fullmove;
+            this.epX = epX;
+            this.epY = epY;
+            this.castling = castling;
+            this.gameStatus = gameStatus;
+            this.ruleStates = ruleStates;
+        }
+    }
+
+    private final List<PieceDelta> deltas;
+    final State before;
+    final State after;
+
+    UndoRecord(List<PieceDelta> deltas, State before, State after) {
+        this.deltas = deltas;
+        this.before = before;
+        this.after = after;
+    }
+
+    /** Piece changes of the move, in application order. */
+    public List<PieceDelta> getDeltas() { return deltas; }
+}
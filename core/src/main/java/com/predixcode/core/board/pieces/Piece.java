@@ -7,7 +7,7 @@ import java.util.function.Supplier;
 import com.predixcode.core.board.Board;
 import com.predixcode.core.board.colors.Color;
 
-public abstract class Piece {
+public abstract class Piece implements Cloneable {
     public int posX;
     public int posY;
     protected Color color;
@@ -23,6 +23,18 @@ public abstract class Piece {
     public abstract Set<int[]> attackedSquares(Board board);      // int[]{x,y}
     public void actionOnCapture(Board board) {}
 
+    /**
+     * Independent copy of this piece: same type, color, square and state
+     * (e.g. castling rights). Subclasses holding mutable references must override.
+     */
+    public Piece copy() {
+        try {
+            return (Piece) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public void setPosition(int x, int y) { this.posX = x; this.posY = y; }
     public int[] getXY () { return new int[] { this.posX, this.posY }; }
 
@@ -39,16 +51,25 @@ public abstract class Piece {
         return "/pieces/" + theme + "/" + name + ".png";
     }
 
-    public static Piece initFromFen(char fenChar, int x, int y) {
+    /** Piece constructor per lower-case FEN letter (ASCII), built once from TYPES. */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final Supplier<Piece>[] BY_LETTER = new Supplier[128];
+    static {
         for (Supplier<Piece> sup : TYPES) {
-            Piece probe = sup.get();
-            String base = probe.getSymbol();
-            if (base.equalsIgnoreCase(String.valueOf(fenChar))) {
-                Piece piece = sup.get();
-                return buildPiece(piece, fenChar, x, y);
-            }
+            char letter = Character.toLowerCase(sup.get().getSymbol().charAt(0));
+            BY_LETTER[letter] = sup;
         }
-        return null;
+    }
+
+    /** Constructor for a FEN letter (either case), or null if the letter is unknown. */
+    public static Supplier<Piece> typeForFen(char fenChar) {
+        char lower = (fenChar >= 'A' && fenChar <= 'Z') ? (char) (fenChar + ('a' - 'A')) : fenChar;
+        return (lower < BY_LETTER.length) ? BY_LETTER[lower] : null;
+    }
+
+    public static Piece initFromFen(char fenChar, int x, int y) {
+        Supplier<Piece> sup = typeForFen(fenChar);
+        return (sup != null) ? buildPiece(sup.get(), fenChar, x, y) : null;
     }
 
     private static Piece buildPiece(Piece piece, char fenChar, int x, int y) {
@@ -0,0 +1,195 @@
+package com.predixcode.core.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.board.pieces.Piece;
+import com.predixcode.core.fen.ExtendedFen;
+
+/**
+ * Compact binary position records for bulk storage.
+ *
+ * <pre>
+ * 8x8 boards: fixed {@value #SIZE_8X8} bytes
+ *   [0]      header: bits 0-3 castling mask (K=1 Q=2 k=4 q=8), bit 4 black to move,
+ *            bit 5 Bureaucrat rule, bit 6 clear
+ *   [1..8]   occupancy bitset, square i = y * width + x is bit (i &amp; 7) of byte i / 8
+ *   [9..40]  piece nibbles in square order, two per byte (low nibble first), zero padded
+ *   [41]     en passant square index, 0xFF = none
+ *   [42..45] halfmove clock, fullmove number (u16 each)
+ *   [46..48] white / black moves per turn, moves left in the current turn
+ *
+ * Other sizes: length-prefixed
+ *   [0]      header as above with bit 6 set
+ *   [1..2]   length of the rest of the record (u16)
+ *   [3], [4] width, height
+ *   then     occupancy (ceil(w*h / 8) bytes), piece nibbles (ceil(n / 2) bytes),
+ *            en passant square index (u16, 0xFFFF = none), clocks, variant budget
+ * </pre>
+ *
+ * Piece nibble: bits 0-2 type (see {@link #pieceLetter(int)}), bit 3 black.
+ * Multi-byte values are big-endian; counts above 255 / 65535 are clamped.
+ * Read records back with {@link PositionRecordReader}.
+ */
+public final class PositionCodec {
+
+    private PositionCodec() {}
+
+    public static final int SIZE_8X8 = 49;
+
+    static final int CASTLING_MASK = 0x0F;
+    static final int BLACK_TO_MOVE = 0x10;
+    static final int BUREAUCRAT    = 0x20;
+    static final int VARIABLE      = 0x40;
+
+    static final int BLACK_PIECE   = 0x08;
+
+    /** Type code (1..7) to lowercase FEN letter. */
+    private static final char[] LETTERS = { 0, 'p', 'n', 'b', 'r', 'q', 'k', 'c' };
+    private static final byte[] CODES = new byte[128];
+    static {
+        for (int code = 1; code < LETTERS.length; code++) CODES[LETTERS[code]] = (byte) code;
+    }
+
+    /** Per-thread square scratch array, grown as needed. */
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[64]);
+
+    /** Lowercase FEN letter of a piece type code (nibble bits 0-2). */
+    public static char pieceLetter(int nibble) {
+        return LETTERS[nibble & 7];
+    }
+
+    /** Encoded size of {@code board} in bytes. */
+    public static int encodedSize(Board board) {
+        int width = board.getWidth(), height = board.getHeight();
+        if (width == 8 && height == 8) return SIZE_8X8;
+        int squares = width * height;
+        return 5 + (squares + 7) / 8 + (countOnBoard(board) + 1) / 2 + 2 + 4 + 3;
+    }
+
+    public static byte[] encode(Board board) {
+        ByteBuffer buf = ByteBuffer.allocate(encodedSize(board));
+        encode(board, buf);
+        return buf.array();
+    }
+
+    /**
+     * Writes the record of {@code board} at the buffer's position and advances it.
+     * Throws BufferOverflowException if it does not fit.
+     */
+    public static ByteBuffer encode(Board board, ByteBuffer out) {
+        int width = board.getWidth(), height = board.getHeight();
+        if (width > 255 || height > 255) {
+            throw new IllegalArgumentException("Board too large to encode: " + width + "x" + height);
+        }
+        boolean fixed = width == 8 && height == 8;
+        int squares = width * height;
+        byte[] codes = squareCodes(board, width, height);
+        ExtendedFen.Variant variant = ExtendedFen.variantOf(board);
+
+        int header = board.getCastlingMask() & CASTLING_MASK;
+        if (Color.BLACK.equals(board.getActiveColor())) header |= BLACK_TO_MOVE;
+        if (variant.bureaucratRule()) header |= BUREAUCRAT;
+        if (!fixed) header |= VARIABLE;
+        out.put((byte) header);
+
+        if (!fixed) {
+            out.putShort((short) (encodedSize(board) - 3));
+            out.put((byte) width).put((byte) height);
+        }
+
+        // Occupancy
+        for (int base = 0; base < squares; base += 8) {
+            int bits = 0;
+            for (int b = 0; b < 8 && base + b < squares; b++) {
+                if (codes[base + b] != 0) bits |= 1 << b;
+            }
+            out.put((byte) bits);
+        }
+
+        // Piece nibbles in square order
+        int pending = -1, written = 0;
+        for (int i = 0; i < squares; i++) {
+            int code = codes[i];
+            if (code == 0) continue;
+            if (pending < 0) {
+                pending = code;
+            } else {
+                out.put((byte) (pending | (code << 4)));
+                pending = -1;
+                written++;
+            }
+        }
+        if (pending >= 0) {
+            out.put((byte) pending);
+            written++;
+        }
+        if (fixed) {
+            for (; written < 32; written++) out.put((byte) 0);
+        }
+
+        // En passant
+        int epX = board.getEnPassantX(), epY = board.getEnPassantY();
+        boolean ep = epX >= 0 && epY >= 0;
+        if (fixed) out.put((byte) (ep ? epY * width + epX : 0xFF));
+        else       out.putShort((short) (ep ? epY * width + epX : 0xFFFF));
+
+        out.putShort((short) clamp(board.getHalfmove(), 0xFFFF));
+        out.putShort((short) clamp(board.getFullmove(), 0xFFFF));
+        out.put((byte) clamp(variant.whiteMovesPerTurn(), 0xFF));
+        out.put((byte) clamp(variant.blackMovesPerTurn(), 0xFF));
+        out.put((byte) clamp(variant.movesLeft(), 0xFF));
+        return out;
+    }
+
+    /**
+     * Decodes the record at the buffer's position into a new started board
+     * (rules from the stored variant) and advances past it.
+     */
+    public static Board decode(ByteBuffer in) {
+        PositionRecordReader reader = new PositionRecordReader(in);
+        if (!reader.next()) throw new IllegalArgumentException("No position record at " + in.position());
+        Board board = reader.toBoard();
+        in.position(reader.recordEnd());
+        return board;
+    }
+
+    static int codeOf(Piece piece) {
+        char c = piece.getSymbol().charAt(0);
+        boolean black = c >= 'a';
+        char lower = black ? c : (char) (c + ('a' - 'A'));
+        int code = (lower < CODES.length) ? CODES[lower] : 0;
+        if (code == 0) throw new IllegalArgumentException("Piece cannot be encoded: " + piece.getSymbol());
+        return black ? code | BLACK_PIECE : code;
+    }
+
+    private static byte[] squareCodes(Board board, int width, int height) {
+        int size = width * height;
+        byte[] codes = SCRATCH.get();
+        if (codes.length < size) {
+            codes = new byte[Math.max(size, codes.length * 2)];
+            SCRATCH.set(codes);
+        }
+        Arrays.fill(codes, 0, size, (byte) 0);
+        for (Piece p : board.getPieces()) {
+            if (p.posX >= 0 && p.posX < width && p.posY >= 0 && p.posY < height) {
+                codes[p.posY * width + p.posX] = (byte) codeOf(p);
+            }
+        }
+        return codes;
+    }
+
+    private static int countOnBoard(Board board) {
+        int width = board.getWidth(), height = board.getHeight(), n = 0;
+        for (Piece p : board.getPieces()) {
+            if (p.posX >= 0 && p.posX < width && p.posY >= 0 && p.posY < height) n++;
+        }
+        return n;
+    }
+
+    private static int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
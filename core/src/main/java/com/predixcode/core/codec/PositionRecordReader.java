@@ -0,0 +1,197 @@
+package com.predixcode.core.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.board.pieces.Piece;
+import com.predixcode.core.fen.ExtendedFen;
+
+/**
+ * Cursor over a buffer of {@link PositionCodec} records, typically a
+ * memory-mapped file. {@link #next()} only computes offsets and every
+ * accessor reads straight from the buffer with absolute gets, so iterating
+ * allocates nothing per record; {@link #toBoard()} builds a board on demand.
+ * Not thread-safe; use one reader per thread (the buffer can be shared).
+ */
+public final class PositionRecordReader {
+
+    /** Receives the pieces of the current record in square order. */
+    @FunctionalInterface
+    public interface PieceVisitor {
+        /** {@code nibble}: type in bits 0-2 (see {@link PositionCodec#pieceLetter(int)}), bit 3 black. */
+        void visit(int x, int y, int nibble);
+    }
+
+    private final ByteBuffer buf;
+    private int nextRecord;
+
+    // Current record
+    private int recordStart = -1;
+    private int recordEnd;
+    private int header;
+    private int width, height;
+    private int occupancy;   // absolute offset of the occupancy bitset
+    private int nibbles;     // absolute offset of the piece nibbles
+    private int tail;        // absolute offset of the en passant field
+    private boolean fixed;
+
+    /** Reads records from the buffer's position to its limit. */
+    public PositionRecordReader(ByteBuffer buf) {
+        this.buf = buf;
+        this.nextRecord = buf.position();
+    }
+
+    /** Maps {@code file} read-only and returns a reader over all of it. */
+    public static PositionRecordReader open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new PositionRecordReader(mapped);
+        }
+    }
+
+    /** Advances to the next record; false at the end of the buffer. */
+    public boolean next() {
+        int at = nextRecord;
+        int limit = buf.limit();
+        if (at >= limit) return false;
+
+        header = buf.get(at) & 0xFF;
+        fixed = (header & PositionCodec.VARIABLE) == 0;
+        if (fixed) {
+            width = 8;
+            height = 8;
+            occupancy = at + 1;
+            nibbles = occupancy + 8;
+            tail = nibbles + 32;
+            recordEnd = at + PositionCodec.SIZE_8X8;
+        } else {
+            if (at + 5 > limit) throw truncated(at);
+            recordEnd = at + 3 + (buf.getShort(at + 1) & 0xFFFF);
+            // Check the declared length before reading any body bytes.
+            if (recordEnd > limit) throw truncated(at);
+            width = buf.get(at + 3) & 0xFF;
+            height = buf.get(at + 4) & 0xFF;
+            occupancy = at + 5;
+            nibbles = occupancy + (width * height + 7) / 8;
+            if (nibbles > recordEnd) throw truncated(at);
+            tail = nibbles + (pieceCount() + 1) / 2;
+            if (tail + 9 > recordEnd) throw truncated(at);
+        }
+        if (recordEnd > limit) throw truncated(at);
+        recordStart = at;
+        nextRecord = recordEnd;
+        return true;
+    }
+
+    /** Offset just past the current record. */
+    public int recordEnd() { return recordEnd; }
+
+    public int getWidth()  { return width; }
+    public int getHeight() { return height; }
+
+    public boolean isBlackToMove() { return (header & PositionCodec.BLACK_TO_MOVE) != 0; }
+    public int getCastlingMask()   { return header & PositionCodec.CASTLING_MASK; }
+    public boolean isBureaucratRule() { return (header & PositionCodec.BUREAUCRAT) != 0; }
+
+    /** En passant square index (y * width + x), or -1 if none. */
+    public int getEnPassantIndex() {
+        int v = fixed ? buf.get(tail) & 0xFF : buf.getShort(tail) & 0xFFFF;
+        return (v == (fixed ? 0xFF : 0xFFFF)) ? -1 : v;
+    }
+
+    public int getHalfmove()          { return buf.getShort(clocks()) & 0xFFFF; }
+    public int getFullmove()          { return buf.getShort(clocks() + 2) & 0xFFFF; }
+    public int getWhiteMovesPerTurn() { return buf.get(clocks() + 4) & 0xFF; }
+    public int getBlackMovesPerTurn() { return buf.get(clocks() + 5) & 0xFF; }
+    public int getMovesLeft()         { return buf.get(clocks() + 6) & 0xFF; }
+
+    /** Number of pieces in the current record. */
+    public int pieceCount() {
+        int bytes = (width * height + 7) / 8, n = 0;
+        for (int i = 0; i < bytes; i++) n += Integer.bitCount(buf.get(occupancy + i) & 0xFF);
+        return n;
+    }
+
+    /** Piece nibble on (x, y), 0 if the square is empty. */
+    public int nibbleAt(int x, int y) {
+        int square = y * width + x;
+        int bits = buf.get(occupancy + (square >> 3)) & 0xFF;
+        if ((bits & (1 << (square & 7))) == 0) return 0;
+
+        int rank = Integer.bitCount(bits & ((1 << (square & 7)) - 1));
+        for (int i = 0; i < square >> 3; i++) rank += Integer.bitCount(buf.get(occupancy + i) & 0xFF);
+        return nibble(rank);
+    }
+
+    /** Visits every piece of the current record in square order. */
+    public void forEachPiece(PieceVisitor visitor) {
+        int squares = width * height;
+        int k = 0;
+        for (int base = 0; base < squares; base += 8) {
+            int bits = buf.get(occupancy + (base >> 3)) & 0xFF;
+            while (bits != 0) {
+                int square = base + Integer.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                visitor.visit(square % width, square / width, nibble(k++));
+            }
+        }
+    }
+
+    /**
+     * Builds a started board from the current record, with the rules and
+     * turn budget it stores.
+     */
+    public Board toBoard() {
+        if (recordStart < 0) throw new IllegalStateException("No current record");
+
+        List<Piece> pieces = new ArrayList<>(32);
+        forEachPiece((x, y, nibble) -> {
+            char letter = PositionCodec.pieceLetter(nibble);
+            Supplier<Piece> type = Piece.typeForFen(letter);
+            if (type == null) throw new IllegalArgumentException("Unknown piece code " + nibble + " at record " + recordStart);
+            Piece piece = type.get();
+            piece.setColor((nibble & PositionCodec.BLACK_PIECE) != 0 ? Color.BLACK : Color.WHITE);
+            piece.setPosition(x, y);
+            pieces.add(piece);
+        });
+
+        Board board = new Board();
+        board.setWidth(width);
+        board.setHeight(height);
+        board.setPieces(pieces);
+        board.setActiveColor(isBlackToMove() ? Color.BLACK : Color.WHITE);
+        board.setHalfmove(getHalfmove());
+        board.setFullmove(getFullmove());
+        int ep = getEnPassantIndex();
+        if (ep >= 0) board.setEnPassant(new int[] { ep % width, ep / width });
+        else board.clearEnPassant();
+        board.setGameStatus(null);
+        board.setCastlingMask(getCastlingMask());
+
+        new ExtendedFen.Variant(getWhiteMovesPerTurn(), getBlackMovesPerTurn(),
+                                getMovesLeft(), isBureaucratRule()).applyTo(board);
+        return board;
+    }
+
+    private int nibble(int k) {
+        int b = buf.get(nibbles + (k >> 1)) & 0xFF;
+        return ((k & 1) == 0) ? b & 0x0F : b >>> 4;
+    }
+
+    private int clocks() {
+        return tail + (fixed ? 1 : 2);
+    }
+
+    private static IllegalArgumentException truncated(int at) {
+        return new IllegalArgumentException("Truncated position record at " + at);
+    }
+}
@@ -0,0 +1,67 @@
+package com.predixcode.core.events;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.predixcode.core.board.GameStatus;
+import com.predixcode.core.board.MoveResult;
+import com.predixcode.core.board.PieceDelta;
+import com.predixcode.core.board.colors.Color;
+
+/**
+ * Typed events published by {@link com.predixcode.core.ui.BoardController}
+ * through its {@link GameEventPublisher}. Events are values: they hold
+ * coordinates, piece letters and colors copied on the game thread, never
+ * live pieces or arrays, so subscribers can read them on any thread while
+ * the game goes on.
+ * Coordinates are board-space (x, y), as everywhere in the core.
+ */
+public sealed interface GameEvent {
+
+    /**
+     * Value copy of one {@link PieceDelta}. {@code piece} is the FEN letter
+     * of the piece before the change (upper case = white); {@code newColor}
+     * is only set for COLOR_CHANGED.
+     */
+    record PieceChange(PieceDelta.Kind kind, String piece,
+                       int fromX, int fromY, int toX, int toY, Color newColor) {
+
+        public static PieceChange of(PieceDelta d) {
+            String symbol = d.getPiece().getSymbol();
+            if (d.getKind() == PieceDelta.Kind.COLOR_CHANGED) {
+                symbol = d.getOldColor().formatSymbol(symbol.toLowerCase());
+            }
+            return new PieceChange(d.getKind(), symbol, d.getFromX(), d.getFromY(),
+                                   d.getToX(), d.getToY(), d.getNewColor());
+        }
+
+        public static List<PieceChange> of(List<PieceDelta> deltas) {
+            List<PieceChange> out = new ArrayList<>(deltas.size());
+            for (PieceDelta d : deltas) out.add(of(d));
+            return List.copyOf(out);
+        }
+    }
+
+    /** A move was played; {@code ply} is the 1-based ply number. */
+    record MoveApplied(int ply, int fromX, int fromY, int toX, int toY, MoveResult.Status status,
+                       List<PieceChange> changes) implements GameEvent {
+        public MoveApplied {
+            changes = List.copyOf(changes);
+        }
+    }
+
+    /** The move of ply {@code ply} captured {@code piece} (FEN letter, upper case = white) on (x, y). */
+    record Capture(int ply, String piece, int x, int y) implements GameEvent {}
+
+    /** {@code side} is in check after ply {@code ply}. */
+    record Check(int ply, Color side) implements GameEvent {}
+
+    /** The game ended with ply {@code ply}. */
+    record GameOver(int ply, GameStatus status, String message) implements GameEvent {}
+
+    /** The side to move changed; {@code movesLeft} is its move budget for the turn. */
+    record TurnChanged(int ply, Color activeColor, int movesLeft) implements GameEvent {}
+
+    /** The position jumped without a new move (undo, redo, replay); re-read the view state. */
+    record HistoryJump(int ply, Color activeColor) implements GameEvent {}
+}
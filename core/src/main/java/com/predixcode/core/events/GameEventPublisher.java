@@ -0,0 +1,254 @@
+package com.predixcode.core.events;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link Flow.Publisher} of game events with a bounded buffer per subscriber.
+ * {@link #publish(GameEvent)} never blocks: each event is offered to every
+ * subscriber's buffer (applying its {@link OverflowPolicy} when full) and
+ * delivery happens on the executor, one drain task per subscriber at a time,
+ * so a slow subscriber only loses its own events and never stalls the move
+ * pipeline. Delivery to each subscriber is serial and in publication order.
+ */
+public final class GameEventPublisher implements Flow.Publisher<GameEvent>, AutoCloseable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 256;
+
+    private final Executor executor;
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    public GameEventPublisher() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor runs subscriber callbacks (e.g. a UI thread executor)
+     */
+    public GameEventPublisher(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /** Subscribes with the default buffer size and {@link OverflowPolicy#DROP_OLDEST}. */
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        subscribe(subscriber, DEFAULT_BUFFER_SIZE, OverflowPolicy.DROP_OLDEST);
+    }
+
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber, int bufferSize, OverflowPolicy policy) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        EventSubscription sub = new EventSubscription(subscriber, Math.max(1, bufferSize),
+                                                      policy != null ? policy : OverflowPolicy.DROP_OLDEST);
+        if (closed) {
+            sub.closed = true;
+        } else {
+            subscriptions.add(sub);
+        }
+        // The subscription starts out "draining", so no onNext can overlap
+        // onSubscribe, even if the subscriber requests from inside it.
+        executor.execute(() -> {
+            try {
+                subscriber.onSubscribe(sub);
+            } finally {
+                sub.release();
+            }
+        });
+    }
+
+    /** True if anyone is listening; lets callers skip building events. */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Offers an event to every subscriber. Never blocks.
+     */
+    public void publish(GameEvent event) {
+        if (closed || event == null) return;
+        for (EventSubscription sub : subscriptions) {
+            sub.offer(event);
+        }
+    }
+
+    /**
+     * Completes every subscriber once its buffered events are delivered.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (EventSubscription sub : subscriptions) {
+            sub.complete();
+        }
+        subscriptions.clear();
+    }
+
+    private final class EventSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final int capacity;
+        private final OverflowPolicy policy;
+
+        // Guarded by 'this'
+        private final ArrayDeque<GameEvent> buffer = new ArrayDeque<>();
+        private long demand;
+        private boolean cancelled;
+        private boolean closed;
+        private Throwable error;
+
+        // Held by the drain task, and until onSubscribe has returned
+        private final AtomicBoolean draining = new AtomicBoolean(true);
+
+        EventSubscription(Flow.Subscriber<? super GameEvent> subscriber, int capacity, OverflowPolicy policy) {
+            this.subscriber = subscriber;
+            this.capacity = capacity;
+            this.policy = policy;
+        }
+
+        void offer(GameEvent event) {
+            synchronized (this) {
+                if (cancelled || closed) return;
+                if (buffer.size() >= capacity && !makeRoom(event)) return;
+                buffer.addLast(event);
+            }
+            schedule();
+        }
+
+        /**
+         * Applies the overflow policy; false means the new event is not
+         * appended (dropped, or coalesced into an earlier slot).
+         */
+        private boolean makeRoom(GameEvent event) {
+            switch (policy) {
+                case DROP_NEWEST:
+                    return false;
+                case COALESCE:
+                    if (replaceLatestOfType(event)) return false;
+                    buffer.pollFirst();
+                    return true;
+                case DROP_OLDEST:
+                default:
+                    buffer.pollFirst();
+                    return true;
+            }
+        }
+
+        /**
+         * Puts {@code event} in the slot of the newest buffered event of the
+         * same type, so the buffer order of all other events is unchanged.
+         */
+        private boolean replaceLatestOfType(GameEvent event) {
+            GameEvent latest = null;
+            for (Iterator<GameEvent> it = buffer.descendingIterator(); it.hasNext(); ) {
+                GameEvent e = it.next();
+                if (e.getClass() == event.getClass()) {
+                    latest = e;
+                    break;
+                }
+            }
+            if (latest == null) return false;
+            for (int i = 0, n = buffer.size(); i < n; i++) {
+                GameEvent e = buffer.pollFirst();
+                buffer.addLast(e == latest ? event : e);
+            }
+            return true;
+        }
+
+        void complete() {
+            synchronized (this) {
+                closed = true;
+            }
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (cancelled) return;
+                if (n <= 0) {
+                    error = new IllegalArgumentException("Non-positive request: " + n);
+                } else {
+                    demand = (demand + n < 0) ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                buffer.clear();
+            }
+            subscriptions.remove(this);
+        }
+
+        void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    GameEvent next;
+                    boolean finish = false;
+                    Throwable failure;
+                    synchronized (this) {
+                        failure = error;
+                        if (cancelled) return;
+                        if (failure != null) {
+                            cancelled = true;
+                            buffer.clear();
+                            next = null;
+                        } else if (demand > 0 && !buffer.isEmpty()) {
+                            next = buffer.pollFirst();
+                            if (demand != Long.MAX_VALUE) demand--;
+                        } else {
+                            next = null;
+                            finish = closed && buffer.isEmpty();
+                            if (finish) cancelled = true;
+                            else return;
+                        }
+                    }
+                    if (failure != null) {
+                        subscriptions.remove(this);
+                        subscriber.onError(failure);
+                        return;
+                    }
+                    if (finish) {
+                        subscriber.onComplete();
+                        return;
+                    }
+                    try {
+                        subscriber.onNext(next);
+                    } catch (RuntimeException ex) {
+                        cancel();
+                        subscriber.onError(ex);
+                        return;
+                    }
+                }
+            } finally {
+                release();
+            }
+        }
+
+        /** Ends a drain (or onSubscribe) and starts another if work arrived meanwhile. */
+        void release() {
+            draining.set(false);
+            if (hasPendingWork()) schedule();
+        }
+
+        private synchronized boolean hasPendingWork() {
+            if (cancelled) return false;
+            return error != null || (demand > 0 && !buffer.isEmpty()) || (closed && buffer.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.predixcode.core.events;
+
+/**
+ * What a subscriber's buffer does with a new event when it is full.
+ */
+public enum OverflowPolicy {
+    /** Discard the oldest buffered event (spectators: keep the latest moves). */
+    DROP_OLDEST,
+    /** Discard the new event (keeps a contiguous prefix). */
+    DROP_NEWEST,
+    /**
+     * Replace the newest buffered event of the same type in place, e.g.
+     * several TurnChanged events collapse into the latest; falls back to
+     * DROP_OLDEST if no event of that type is buffered. Other events keep
+     * their order, but the new event takes the older one's slot, so it can
+     * arrive before events published ahead of it: only for subscribers that
+     * want the latest state rather than every ply in order.
+     */
+    COALESCE
+}
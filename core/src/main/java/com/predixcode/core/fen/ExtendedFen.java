@@ -0,0 +1,189 @@
+package com.predixcode.core.fen;
+
+import java.util.List;
+
+import com.predixcode.core.GameConfig;
+import com.predixcode.core.board.Board;
+import com.predixcode.core.rules.BureaucratCaptureRule;
+import com.predixcode.core.rules.DynamicMoveTurnRule;
+import com.predixcode.core.rules.Rule;
+import com.predixcode.core.rules.RuleBuilder;
+
+/**
+ * FEN with the variant state a plain FEN cannot express, as an optional
+ * seventh field:
+ * <pre>
+ *   rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR w KQkq - 0 1 x:mpt=2/1,left=1,bur=1
+ * </pre>
+ * mpt = moves per turn (white/black), left = moves the side to move still has
+ * in its current turn, bur = Bureaucrat capture rule (0/1).
+ * The field is omitted for standard rules, so a standard game writes plain
+ * FEN. Plain FEN parses as standard rules and {@link FenParser} ignores the
+ * extension, so both directions stay compatible. Unknown keys are skipped.
+ */
+public final class ExtendedFen {
+
+    private ExtendedFen() {}
+
+    public static final String PREFIX = "x:";
+
+    /** Variant state stored alongside the position. */
+    public record Variant(int whiteMovesPerTurn, int blackMovesPerTurn, int movesLeft, boolean bureaucratRule) {
+
+        public static final Variant STANDARD = new Variant(1, 1, 0, false);
+
+        public Variant {
+            whiteMovesPerTurn = Math.max(1, whiteMovesPerTurn);
+            blackMovesPerTurn = Math.max(1, blackMovesPerTurn);
+            movesLeft = Math.max(0, movesLeft);
+        }
+
+        /** True if nothing differs from classic rules (no extension needed). */
+        public boolean isStandard() {
+            return whiteMovesPerTurn == 1 && blackMovesPerTurn == 1 && movesLeft <= 1 && !bureaucratRule;
+        }
+
+        /** Game config carrying these rule settings for {@code fen}. */
+        public GameConfig toConfig(String fen) {
+            return new GameConfig(fen, bureaucratRule, whiteMovesPerTurn, blackMovesPerTurn);
+        }
+
+        /**
+         * Installs these rules on {@code board} and starts the game,
+         * resuming the turn budget at {@link #movesLeft()}.
+         */
+        public void applyTo(Board board) {
+            List<Rule> rules = RuleBuilder.buildRules(toConfig(null));
+            for (Rule rule : rules) {
+                if (rule instanceof DynamicMoveTurnRule turns) turns.setStartingMovesLeft(movesLeft);
+            }
+            board.setRules(rules);
+            board.startGame();
+        }
+    }
+
+    // ---- Writing ----
+
+    public static String toExtendedFen(Board board) {
+        Variant v = variantOf(board);
+        String fen = board.getFen();
+        if (v.isStandard()) return fen;
+        return appendExtension(new StringBuilder(fen.length() + 32).append(fen), v).toString();
+    }
+
+    /** Appends the extended FEN of {@code board} to {@code out}. */
+    public static StringBuilder write(Board board, StringBuilder out) {
+        FenWriter.write(board, out);
+        Variant v = variantOf(board);
+        return v.isStandard() ? out : appendExtension(out, v);
+    }
+
+    /** Variant state of a board, read from its rules. */
+    public static Variant variantOf(Board board) {
+        DynamicMoveTurnRule turns = board.findRule(DynamicMoveTurnRule.class);
+        boolean bureaucrat = board.findRule(BureaucratCaptureRule.class) != null;
+        if (turns == null) return new Variant(1, 1, 0, bureaucrat);
+        return new Variant(turns.getWhiteMovesPerTurn(), turns.getBlackMovesPerTurn(),
+                           turns.getMovesLeftForActive(), bureaucrat);
+    }
+
+    private static StringBuilder appendExtension(StringBuilder out, Variant v) {
+        out.append(' ').append(PREFIX)
+           .append("mpt=").append(v.whiteMovesPerTurn()).append('/').append(v.blackMovesPerTurn());
+        if (v.movesLeft() > 0) out.append(",left=").append(v.movesLeft());
+        out.append(",bur=").append(v.bureaucratRule() ? '1' : '0');
+        return out;
+    }
+
+    // ---- Reading ----
+
+    /**
+     * Parses an extended (or plain) FEN into a started board with the
+     * variant's rules, resuming the turn budget where it was saved.
+     */
+    public static Board parse(CharSequence fen) {
+        Variant v = parseVariant(fen);
+        Board board = FenParser.parse(fen);
+        v.applyTo(board);
+        return board;
+    }
+
+    /** True if {@code fen} carries the extension field. */
+    public static boolean hasExtension(CharSequence fen) {
+        return extensionStart(fen) >= 0;
+    }
+
+    /** Variant of an extended FEN; {@link Variant#STANDARD} for plain FEN. */
+    public static Variant parseVariant(CharSequence fen) {
+        int i = extensionStart(fen);
+        if (i < 0) return Variant.STANDARD;
+
+        int white = 1, black = 1, left = 0;
+        boolean bureaucrat = false;
+        int end = i;
+        while (end < fen.length() && fen.charAt(end) > ' ') end++;
+
+        while (i < end) {
+            int keyStart = i;
+            while (i < end && fen.charAt(i) != '=' && fen.charAt(i) != ',') i++;
+            int keyEnd = i;
+            if (i < end && fen.charAt(i) == '=') i++;
+            int valueStart = i;
+            while (i < end && fen.charAt(i) != ',') i++;
+            int valueEnd = i;
+            if (i < end) i++; // ','
+
+            if (is(fen, keyStart, keyEnd, "mpt")) {
+                int slash = valueStart;
+                while (slash < valueEnd && fen.charAt(slash) != '/') slash++;
+                white = number(fen, valueStart, slash);
+                black = (slash < valueEnd) ? number(fen, slash + 1, valueEnd) : white;
+            } else if (is(fen, keyStart, keyEnd, "left")) {
+                left = number(fen, valueStart, valueEnd);
+            } else if (is(fen, keyStart, keyEnd, "bur")) {
+                bureaucrat = number(fen, valueStart, valueEnd) != 0;
+            }
+        }
+        return new Variant(white, black, left, bureaucrat);
+    }
+
+    /** Index just after the extension prefix, or -1 if there is none (7th field onwards). */
+    private static int extensionStart(CharSequence fen) {
+        int field = 0, i = 0, n = fen.length();
+        while (i < n) {
+            while (i < n && fen.charAt(i) <= ' ') i++;
+            if (i >= n) break;
+            if (field >= 6 && startsWith(fen, i, PREFIX)) return i + PREFIX.length();
+            while (i < n && fen.charAt(i) > ' ') i++;
+            field++;
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(CharSequence s, int at, String prefix) {
+        if (at + prefix.length() > s.length()) return false;
+        for (int k = 0; k < prefix.length(); k++) {
+            if (s.charAt(at + k) != prefix.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    private static boolean is(CharSequence s, int from, int to, String key) {
+        return to - from == key.length() && startsWith(s, from, key);
+    }
+
+    private static int number(CharSequence s, int from, int to) {
+        if (from >= to) throw invalid(s, "missing number");
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') throw invalid(s, "bad number");
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(CharSequence s, String why) {
+        return new IllegalArgumentException("Invalid extended FEN (" + why + "): " + s);
+    }
+}
@@ -1,155 +1,31 @@
 package com.predixcode.core.fen;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-
 import com.predixcode.core.board.Board;
-import com.predixcode.core.board.colors.Color;
-import com.predixcode.core.board.pieces.King;
-import com.predixcode.core.board.pieces.Piece;
 
 public final class FenAdapter {
     private FenAdapter() {}
 
+    /**
+     * Parses a FEN into a new board (see {@link FenParser}).
+     */
     public static Board boardFromFen(String fen) {
-        String[] parts = fen.trim().split("\\s+");
-        System.out.println("FEN parts: " + java.util.Arrays.toString(parts));
-        if (parts.length < 6) throw new IllegalArgumentException("Invalid FEN: " + fen);
-
-        String placement = parts[0];
-        char active = parts[1].trim().charAt(0);
-        String castling = parts[2];
-        String epStr = parts[3];
-        int halfmove = Integer.parseInt(parts[4]);
-        int fullmove = Integer.parseInt(parts[5]);
-
-        Board board = new Board();
-
-        // dimensions
-        List<String> rows = Arrays.asList(placement.split("/"));
-        if (rows.isEmpty()) {
-            throw new IllegalArgumentException("No ranks in placement: " + placement);
-        }
-        int width = FenUtils.countSquaresInRank(rows.get(0));
-        for (String row : rows) {
-            if (FenUtils.countSquaresInRank(row) != width) {
-                throw new IllegalArgumentException("Inconsistent rank widths in FEN: " + fen);
-            }
-        }
-        board.setWidth(width);
-        board.setHeight(rows.size());
-
-        // pieces
-        List<Piece> pieces = buildPieces(rows);
-        board.setPieces(pieces);
-
-        // board data
-        board.setActiveColor(Color.fromChar(active));
-        board.setHalfmove(halfmove);
-        board.setFullmove(fullmove);
-        if (!"-".equals(epStr)) {
-            int[] epXY = board.fromAlg(epStr);
-            board.setEnPassant(epXY);
-        } else {
-            board.clearEnPassant();
-        }
-
-        // castling rights
-        applyCastlingToKings(pieces, castling);
-        return board;
+        return FenParser.parse(fen);
     }
 
+    /**
+     * FEN of the current position; cached on the board per position version.
+     */
     public static String toFen(Board board) {
-        StringBuilder placement = new StringBuilder();
-        for (int row = 0; row < board.getHeight(); row++) {
-            int empty = 0;
-            for (int col = 0; col < board.getWidth(); col++) {
-                Piece piece = board.getPieceAt(col, row);
-                if (piece == null) {
-                    empty++;
-                } else {
-                    if (empty > 0) {
-                        placement.append(empty);
-                        empty = 0;
-                    }
-                    char c = piece.getSymbol().charAt(0);
-                    placement.append(c);
-                }
-            }
-            if (empty > 0) placement.append(empty);
-            if (row < board.getHeight() - 1) placement.append('/');
-        }
-
-        String side = (board.getActiveColor() == Color.WHITE) ? "w" :
-                      (board.getActiveColor() == Color.BLACK) ? "b" : "w";
-
-        String castling = FenAdapter.getCastlingString(board);
-        String ep = getEnPassantString(board);
-
-        return placement + " " + side + " " + castling + " " + ep + " " + board.getHalfmove() + " " + board.getFullmove();
+        return board.getFen();
     }
 
     public static String getCastlingString(Board board) {
-        boolean K = false, Q = false, k = false, q = false;
-        for (Piece p : board.getPieces()) {
-            if (p instanceof King king) {
-                boolean isWhite = p.getColor().equals(Color.WHITE);
-                if (isWhite) {
-                    if (king.canCastleKingSide()) K = true;
-                    if (king.canCastleQueenSide()) Q = true;
-                } else {
-                    if (king.canCastleKingSide()) k = true;
-                    if (king.canCastleQueenSide()) q = true;
-                }
-            }
-        }
-        String s = (K ? "K" : "") + (Q ? "Q" : "") + (k ? "k" : "") + (q ? "q" : "");
-        return s.isEmpty() ? "-" : s;
+        return FenWriter.castlingString(board.getCastlingMask());
     }
 
     public static String getEnPassantString(Board board) {
-        if (board.getEnPassantXY()[0] < 0 || board.getEnPassantXY()[1] < 0) return "-";
-        return board.toAlg(board.getEnPassantXY()[0], board.getEnPassantXY()[1]);
-    }
-
-    private static List<Piece> buildPieces(List<String> rows) {
-        List<Piece> pieces = new ArrayList<>();
-        for (int y = 0; y < rows.size(); y++) {
-            String row = rows.get(y);
-            int x = 0;
-            for (int i = 0; i < row.length(); i++) {
-                char ch = row.charAt(i);
-                if (Character.isDigit(ch)) {
-                    x += Character.getNumericValue(ch);
-                } else {
-                    Piece piece = Piece.initFromFen(ch, x, y);
-                    if (piece != null) pieces.add(piece);
-                    x++;
-                }
-            }
-        }
-        return pieces;
-    }
-
-    private static void applyCastlingToKings(List<Piece> pieces, String castling) {
-        King whiteKing = null;
-        King blackKing = null;
-
-        for (Piece p : pieces) {
-            if (p instanceof King k) {
-                boolean isWhite = p.getColor() != null && p.getColor().equals(Color.WHITE);
-                if (isWhite) whiteKing = k; else blackKing = k;
-            }
-        }
-
-        if (whiteKing != null) {
-            whiteKing.setCastleKingSide(castling.contains("K"));
-            whiteKing.setCastleQueenSide(castling.contains("Q"));
-        }
-        if (blackKing != null) {
-            blackKing.setCastleKingSide(castling.contains("k"));
-            blackKing.setCastleQueenSide(castling.contains("q"));
-        }
+        StringBuilder sb = new StringBuilder(4);
+        FenWriter.appendSquare(board, board.getEnPassantX(), board.getEnPassantY(), sb);
+        return sb.toString();
     }
-}
\ No newline at end of file
+}
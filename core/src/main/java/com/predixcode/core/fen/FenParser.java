@@ -0,0 +1,262 @@
+package com.predixcode.core.fen;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.board.pieces.King;
+import com.predixcode.core.board.pieces.Piece;
+
+/**
+ * Single-pass, character-level FEN parser (no regex, no intermediate strings).
+ * Fields may be separated by any whitespace.
+ * Supports any board size, including multi-digit empty runs ("p10p").
+ * Can fill an existing board, so bulk loaders can reuse one instance:
+ * the position (size, pieces, side, castling, en passant, clocks, game status)
+ * is replaced, rules and caches are kept.
+ * {@link #parseLine(ByteBuffer, Board)} reads one FEN per line straight from
+ * an ASCII byte buffer (e.g. a memory-mapped file).
+ * This is the only FEN reader: {@link PositionBuilder#fromFen} fills its
+ * grid through a {@link Sink} instead of a board.
+ */
+public final class FenParser {
+
+    private FenParser() {}
+
+    /** Receives a parsed FEN: the pieces in reading order, then the other fields. */
+    interface Sink {
+        /** A piece with a known FEN letter on (x, y), row 0 = top rank. */
+        void piece(char letter, int x, int y);
+
+        /** En passant square in board coordinates, or -1/-1 if none. */
+        void position(int width, int height, boolean blackToMove, int castlingMask,
+                      int epX, int epY, int halfmove, int fullmove);
+    }
+
+    public static Board parse(CharSequence fen) {
+        Board board = new Board();
+        parseInto(fen, board);
+        return board;
+    }
+
+    public static void parseInto(CharSequence fen, Board board) {
+        parse(fen, 0, fen.length(), new BoardSink(board));
+    }
+
+    static void parse(CharSequence fen, Sink sink) {
+        parse(fen, 0, fen.length(), sink);
+    }
+
+    /**
+     * Parses the next line of {@code buf} (from its position up to '\n' or the
+     * limit) into {@code board} and advances the position past the line.
+     * Blank lines are skipped. Returns false if no FEN was left.
+     */
+    public static boolean parseLine(ByteBuffer buf, Board board) {
+        while (buf.hasRemaining()) {
+            int start = buf.position();
+            int end = start;
+            int limit = buf.limit();
+            while (end < limit && buf.get(end) != '\n') end++;
+            buf.position(end < limit ? end + 1 : end);
+
+            int trimmedEnd = end;
+            while (trimmedEnd > start && buf.get(trimmedEnd - 1) <= ' ') trimmedEnd--;
+            if (trimmedEnd > start) {
+                AsciiView line = new AsciiView(buf);
+                parse(line, start, trimmedEnd, new BoardSink(board));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void parse(CharSequence s, int from, int to, Sink sink) {
+        int i = skipSpaces(s, from, to);
+
+        // 1) Placement: pieces go to the sink first, the width is known after rank 1.
+        int width = -1, x = 0, y = 0;
+        for (; i < to; i++) {
+            char c = s.charAt(i);
+            if (c <= ' ') break;
+            if (c == '/') {
+                width = checkRank(s, from, to, width, x);
+                x = 0;
+                y++;
+            } else if (c >= '0' && c <= '9') {
+                int run = 0;
+                while (i < to && (c = s.charAt(i)) >= '0' && c <= '9') {
+                    run = run * 10 + (c - '0');
+                    i++;
+                }
+                i--;
+                x += run;
+            } else {
+                if (Piece.typeForFen(c) == null) throw invalid(s, from, to, "unknown piece '" + c + "'");
+                sink.piece(c, x++, y);
+            }
+        }
+        width = checkRank(s, from, to, width, x);
+        int height = y + 1;
+
+        // 2) Active color
+        i = skipSpaces(s, i, to);
+        if (i >= to) throw invalid(s, from, to, "missing side to move");
+        char side = s.charAt(i);
+        boolean blackToMove;
+        if (side == 'w' || side == 'W') blackToMove = false;
+        else if (side == 'b' || side == 'B') blackToMove = true;
+        else throw invalid(s, from, to, "side to move must be 'w' or 'b'");
+        if (skipToken(s, i, to) != i + 1) throw invalid(s, from, to, "side to move must be 'w' or 'b'");
+        i = skipSpaces(s, i + 1, to);
+
+        // 3) Castling (Board#getCastlingMask() bits)
+        int castling = 0;
+        if (i >= to) throw invalid(s, from, to, "missing castling field");
+        for (; i < to && s.charAt(i) > ' '; i++) {
+            switch (s.charAt(i)) {
+                case 'K' -> castling |= 1;
+                case 'Q' -> castling |= 2;
+                case 'k' -> castling |= 4;
+                case 'q' -> castling |= 8;
+                default  -> { }
+            }
+        }
+        i = skipSpaces(s, i, to);
+
+        // 4) En passant
+        if (i >= to) throw invalid(s, from, to, "missing en passant field");
+        int epX = -1, epY = -1;
+        if (s.charAt(i) != '-') {
+            epX = s.charAt(i) - 'a';
+            int rank = 0;
+            for (i++; i < to && s.charAt(i) >= '0' && s.charAt(i) <= '9'; i++) {
+                rank = rank * 10 + (s.charAt(i) - '0');
+            }
+            epY = height - rank;
+            if (epX < 0 || epX >= width || epY < 0 || epY >= height) {
+                throw invalid(s, from, to, "en passant square off the board");
+            }
+        }
+        i = skipSpaces(s, skipToken(s, i, to), to);
+
+        // 5) Clocks
+        if (i >= to) throw invalid(s, from, to, "missing halfmove clock");
+        int halfmove = 0;
+        for (; i < to && s.charAt(i) > ' '; i++) halfmove = digit(s, from, to, i, halfmove);
+        i = skipSpaces(s, i, to);
+        if (i >= to) throw invalid(s, from, to, "missing fullmove number");
+        int fullmove = 0;
+        for (; i < to && s.charAt(i) > ' '; i++) fullmove = digit(s, from, to, i, fullmove);
+
+        sink.position(width, height, blackToMove, castling, epX, epY, halfmove, fullmove);
+    }
+
+    /** Fills a board: replaces the position, keeps rules and caches. */
+    private static final class BoardSink implements Sink {
+        private final Board board;
+        private final List<Piece> pieces = new ArrayList<>(32);
+        private King whiteKing, blackKing;
+
+        BoardSink(Board board) {
+            this.board = board;
+        }
+
+        @Override
+        public void piece(char letter, int x, int y) {
+            Supplier<Piece> type = Piece.typeForFen(letter);
+            Piece piece = type.get();
+            piece.setColor(letter < 'a' ? Color.WHITE : Color.BLACK);
+            piece.setPosition(x, y);
+            pieces.add(piece);
+            if (piece instanceof King k) {
+                if (letter < 'a') { if (whiteKing == null) whiteKing = k; }
+                else if (blackKing == null) blackKing = k;
+            }
+        }
+
+        @Override
+        public void position(int width, int height, boolean blackToMove, int castlingMask,
+                             int epX, int epY, int halfmove, int fullmove) {
+            board.setWidth(width);
+            board.setHeight(height);
+            board.setPieces(pieces);
+            board.setActiveColor(blackToMove ? Color.BLACK : Color.WHITE);
+            board.setHalfmove(halfmove);
+            board.setFullmove(fullmove);
+            if (epX >= 0) board.setEnPassant(new int[] { epX, epY });
+            else board.clearEnPassant();
+            board.setGameStatus(null);
+            if (whiteKing != null) {
+                whiteKing.setCastleKingSide((castlingMask & 1) != 0);
+                whiteKing.setCastleQueenSide((castlingMask & 2) != 0);
+            }
+            if (blackKing != null) {
+                blackKing.setCastleKingSide((castlingMask & 4) != 0);
+                blackKing.setCastleQueenSide((castlingMask & 8) != 0);
+            }
+        }
+    }
+
+    private static int checkRank(CharSequence s, int from, int to, int width, int rankWidth) {
+        if (width >= 0 && rankWidth != width) {
+            throw invalid(s, from, to, "inconsistent rank widths");
+        }
+        if (rankWidth == 0) throw invalid(s, from, to, "empty rank");
+        return rankWidth;
+    }
+
+    private static int digit(CharSequence s, int from, int to, int i, int acc) {
+        char c = s.charAt(i);
+        if (c < '0' || c > '9') throw invalid(s, from, to, "bad number");
+        return acc * 10 + (c - '0');
+    }
+
+    private static int skipSpaces(CharSequence s, int i, int to) {
+        while (i < to && s.charAt(i) <= ' ') i++;
+        return i;
+    }
+
+    private static int skipToken(CharSequence s, int i, int to) {
+        while (i < to && s.charAt(i) > ' ') i++;
+        return i;
+    }
+
+    private static IllegalArgumentException invalid(CharSequence s, int from, int to, String why) {
+        return new IllegalArgumentException("Invalid FEN (" + why + "): " + s.subSequence(from, to));
+    }
+
+    /** Zero-copy CharSequence over ASCII bytes (absolute indexing into the buffer). */
+    private static final class AsciiView implements CharSequence {
+        private final ByteBuffer buf;
+
+        AsciiView(ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int length() {
+            return buf.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buf.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            StringBuilder sb = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) sb.append(charAt(i));
+            return sb;
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+}
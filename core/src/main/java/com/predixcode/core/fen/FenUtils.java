@@ -1,8 +1,5 @@
 package com.predixcode.core.fen;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Small helpers for working with the board-part of FEN strings.
  *
@@ -39,7 +36,18 @@ public final class FenUtils {
 
     /** Number of squares represented by a rank string. */
     public static int countSquaresInRank(String rank) {
-        return expandRankToArray(rank).length;
+        int count = 0;
+        int run = 0;
+        for (int i = 0; i < rank.length(); i++) {
+            char c = rank.charAt(i);
+            if (c >= '0' && c <= '9') {
+                run = run * 10 + (c - '0');
+            } else {
+                count += run + 1;
+                run = 0;
+            }
+        }
+        return count + run;
     }
 
     /**
@@ -47,30 +55,20 @@ public final class FenUtils {
      * Pieces are kept as letters, empty squares as '.'.
      */
     public static char[] expandRankToArray(String rank) {
-        List<Character> out = new ArrayList<>();
-        int i = 0;
-        while (i < rank.length()) {
+        char[] arr = new char[countSquaresInRank(rank)];
+        int x = 0;
+        int run = 0;
+        for (int i = 0; i < rank.length(); i++) {
             char c = rank.charAt(i);
-            if (Character.isDigit(c)) {
-                int j = i;
-                int count = 0;
-                while (j < rank.length() && Character.isDigit(rank.charAt(j))) {
-                    count = count * 10 + (rank.charAt(j) - '0');
-                    j++;
-                }
-                for (int k = 0; k < count; k++) {
-                    out.add('.');
-                }
-                i = j;
+            if (c >= '0' && c <= '9') {
+                run = run * 10 + (c - '0');
             } else {
-                out.add(c);
-                i++;
+                while (run-- > 0) arr[x++] = '.';
+                run = 0;
+                arr[x++] = c;
             }
         }
-        char[] arr = new char[out.size()];
-        for (int k = 0; k < out.size(); k++) {
-            arr[k] = out.get(k);
-        }
+        while (run-- > 0) arr[x++] = '.';
         return arr;
     }
 
@@ -0,0 +1,159 @@
+package com.predixcode.core.fen;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.board.pieces.Piece;
+
+/**
+ * FEN serializer that places every piece into an occupancy array once and
+ * then walks the squares in order: O(squares + pieces) instead of a piece
+ * lookup per square. Writes into caller-provided buffers; for a cached
+ * string per position use {@link Board#getFen()}.
+ */
+public final class FenWriter {
+
+    private FenWriter() {}
+
+    private static final String[] CASTLING = new String[16];
+    static {
+        for (int mask = 0; mask < 16; mask++) {
+            StringBuilder sb = new StringBuilder(4);
+            if ((mask & 1) != 0) sb.append('K');
+            if ((mask & 2) != 0) sb.append('Q');
+            if ((mask & 4) != 0) sb.append('k');
+            if ((mask & 8) != 0) sb.append('q');
+            CASTLING[mask] = (sb.length() == 0) ? "-" : sb.toString();
+        }
+    }
+
+    /** Per-thread occupancy scratch array, grown as needed. */
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[64]);
+
+    public static String toFen(Board board) {
+        StringBuilder sb = new StringBuilder(board.getWidth() * board.getHeight() / 2 + 24);
+        write(board, sb);
+        return sb.toString();
+    }
+
+    /** Appends the FEN of {@code board} to {@code out}. */
+    public static StringBuilder write(Board board, StringBuilder out) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        char[] squares = occupancy(board, width, height);
+
+        for (int y = 0, i = 0; y < height; y++) {
+            int empty = 0;
+            for (int x = 0; x < width; x++, i++) {
+                char c = squares[i];
+                if (c == 0) {
+                    empty++;
+                } else {
+                    if (empty > 0) {
+                        out.append(empty);
+                        empty = 0;
+                    }
+                    out.append(c);
+                }
+            }
+            if (empty > 0) out.append(empty);
+            if (y < height - 1) out.append('/');
+        }
+
+        out.append(' ').append(Color.BLACK.equals(board.getActiveColor()) ? 'b' : 'w');
+        out.append(' ').append(castlingString(board.getCastlingMask()));
+        out.append(' ');
+        appendSquare(board, board.getEnPassantX(), board.getEnPassantY(), out);
+        out.append(' ').append(board.getHalfmove());
+        out.append(' ').append(board.getFullmove());
+        return out;
+    }
+
+    /**
+     * Writes the FEN of {@code board} as ASCII bytes at the buffer's position
+     * (advancing it). Throws BufferOverflowException if it does not fit.
+     */
+    public static ByteBuffer write(Board board, ByteBuffer out) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        char[] squares = occupancy(board, width, height);
+
+        for (int y = 0, i = 0; y < height; y++) {
+            int empty = 0;
+            for (int x = 0; x < width; x++, i++) {
+                char c = squares[i];
+                if (c == 0) {
+                    empty++;
+                } else {
+                    if (empty > 0) {
+                        putInt(out, empty);
+                        empty = 0;
+                    }
+                    out.put((byte) c);
+                }
+            }
+            if (empty > 0) putInt(out, empty);
+            if (y < height - 1) out.put((byte) '/');
+        }
+
+        out.put((byte) ' ').put((byte) (Color.BLACK.equals(board.getActiveColor()) ? 'b' : 'w'));
+        out.put((byte) ' ');
+        String castling = castlingString(board.getCastlingMask());
+        for (int i = 0; i < castling.length(); i++) out.put((byte) castling.charAt(i));
+        out.put((byte) ' ');
+        int epX = board.getEnPassantX(), epY = board.getEnPassantY();
+        if (epX < 0 || epY < 0) {
+            out.put((byte) '-');
+        } else {
+            out.put((byte) ('a' + epX));
+            putInt(out, height - epY);
+        }
+        out.put((byte) ' ');
+        putInt(out, board.getHalfmove());
+        out.put((byte) ' ');
+        putInt(out, board.getFullmove());
+        return out;
+    }
+
+    /** Castling field for a {@link Board#getCastlingMask()} value ("KQkq", "-", ...). */
+    public static String castlingString(int mask) {
+        return CASTLING[mask & 15];
+    }
+
+    /** Appends the algebraic square, or "-" if x/y is negative. */
+    static void appendSquare(Board board, int x, int y, StringBuilder out) {
+        if (x < 0 || y < 0) {
+            out.append('-');
+        } else {
+            out.append((char) ('a' + x)).append(board.getHeight() - y);
+        }
+    }
+
+    private static char[] occupancy(Board board, int width, int height) {
+        int size = width * height;
+        char[] squares = SCRATCH.get();
+        if (squares.length < size) {
+            squares = new char[Math.max(size, squares.length * 2)];
+            SCRATCH.set(squares);
+        }
+        Arrays.fill(squares, 0, size, (char) 0);
+        for (Piece p : board.getPieces()) {
+            int x = p.posX, y = p.posY;
+            if (x >= 0 && x < width && y >= 0 && y < height) {
+                squares[y * width + x] = p.getSymbol().charAt(0);
+            }
+        }
+        return squares;
+    }
+
+    private static void putInt(ByteBuffer out, int value) {
+        if (value < 0) {
+            out.put((byte) '-');
+            value = -value;
+        }
+        if (value >= 10) putInt(out, value / 10);
+        out.put((byte) ('0' + value % 10));
+    }
+}
@@ -0,0 +1,221 @@
+package com.predixcode.core.fen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.board.pieces.Piece;
+
+/**
+ * Mutable in-memory position the start-position rules work on: a grid of
+ * FEN letters ('.' = empty, row 0 = top rank) plus the non-board FEN fields.
+ * Built once from the base FEN, transformed in place, then turned directly
+ * into a {@link Board}; FEN text is only produced by {@link #toFen()}.
+ * The en passant target is kept as file + rank counted from the bottom, like
+ * the FEN field, so it stays on the same algebraic square when ranks are
+ * inserted or removed.
+ */
+public final class PositionBuilder {
+
+    public static final char EMPTY = '.';
+
+    private char[][] grid;
+    private boolean blackToMove;
+    private int castlingMask;          // Board#getCastlingMask() bits
+    private int epFile = -1, epRank;   // epRank is 1-based from the bottom
+    private int halfmove;
+    private int fullmove = 1;
+
+    private PositionBuilder(char[][] grid) {
+        this.grid = grid;
+    }
+
+    /** Empty board of the given size, white to move, no castling rights. */
+    public static PositionBuilder empty(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Board dimensions must be positive, got " + width + "x" + height);
+        }
+        char[][] grid = new char[height][width];
+        for (char[] row : grid) Arrays.fill(row, EMPTY);
+        return new PositionBuilder(grid);
+    }
+
+    /**
+     * Reads a full FEN with {@link FenParser}. Extra fields (e.g. an
+     * extended FEN suffix) are ignored.
+     */
+    public static PositionBuilder fromFen(CharSequence fen) {
+        GridSink sink = new GridSink();
+        FenParser.parse(fen, sink);
+        return sink.result;
+    }
+
+    public PositionBuilder copy() {
+        char[][] rows = new char[grid.length][];
+        for (int y = 0; y < rows.length; y++) rows[y] = grid[y].clone();
+        PositionBuilder c = new PositionBuilder(rows);
+        c.blackToMove = blackToMove;
+        c.castlingMask = castlingMask;
+        c.epFile = epFile;
+        c.epRank = epRank;
+        c.halfmove = halfmove;
+        c.fullmove = fullmove;
+        return c;
+    }
+
+    // ---- Grid ----
+
+    public int getWidth()  { return grid.length == 0 ? 0 : grid[0].length; }
+    public int getHeight() { return grid.length; }
+
+    /** FEN letter on (x, y), {@link #EMPTY} if the square is empty. */
+    public char get(int x, int y) { return grid[y][x]; }
+    public void set(int x, int y, char piece) { grid[y][x] = piece; }
+
+    /**
+     * The rows themselves (top to bottom), for rules that reshape the board.
+     * Changes write through; replace the whole grid with {@link #setGrid}.
+     */
+    public char[][] grid() { return grid; }
+
+    /** Replaces the grid; every row must have the same, positive width. */
+    public void setGrid(char[][] rows) {
+        if (rows.length == 0) throw new IllegalArgumentException("Empty board");
+        for (char[] r : rows) {
+            if (r.length != rows[0].length || r.length == 0) {
+                throw new IllegalArgumentException("Inconsistent rank widths");
+            }
+        }
+        this.grid = rows;
+    }
+
+    // ---- Other fields ----
+
+    public boolean isBlackToMove() { return blackToMove; }
+    public void setBlackToMove(boolean blackToMove) { this.blackToMove = blackToMove; }
+
+    public int getCastlingMask() { return castlingMask; }
+    public void setCastlingMask(int mask) { this.castlingMask = mask & 15; }
+
+    public int getHalfmove() { return halfmove; }
+    public void setHalfmove(int halfmove) { this.halfmove = halfmove; }
+
+    public int getFullmove() { return fullmove; }
+    public void setFullmove(int fullmove) { this.fullmove = fullmove; }
+
+    /** Sets the en passant target by algebraic file index and 1-based rank; -1 clears it. */
+    public void setEnPassant(int file, int rank) {
+        this.epFile = file;
+        this.epRank = rank;
+    }
+
+    // ---- Output ----
+
+    /** New board with this position (no rules). */
+    public Board toBoard() {
+        int width = getWidth(), height = getHeight();
+        List<Piece> pieces = new ArrayList<>(32);
+        for (int y = 0; y < height; y++) {
+            char[] row = grid[y];
+            for (int x = 0; x < width; x++) {
+                char c = row[x];
+                if (c == EMPTY || c == ' ') continue;
+                Supplier<Piece> type = Piece.typeForFen(c);
+                if (type == null) throw new IllegalArgumentException("Unknown piece '" + c + "' at " + x + "," + y);
+                Piece piece = type.get();
+                piece.setColor(c < 'a' ? Color.WHITE : Color.BLACK);
+                piece.setPosition(x, y);
+                pieces.add(piece);
+            }
+        }
+
+        Board board = new Board();
+        board.setWidth(width);
+        board.setHeight(height);
+        board.setPieces(pieces);
+        board.setActiveColor(blackToMove ? Color.BLACK : Color.WHITE);
+        board.setHalfmove(halfmove);
+        board.setFullmove(fullmove);
+        int epY = height - epRank;
+        if (epFile >= 0 && epFile < width && epY >= 0 && epY < height) {
+            board.setEnPassant(new int[] { epFile, epY });
+        } else {
+            board.clearEnPassant();
+        }
+        board.setGameStatus(null);
+        board.setCastlingMask(castlingMask);
+        return board;
+    }
+
+    public String toFen() {
+        return write(new StringBuilder(getWidth() * getHeight() / 2 + 24)).toString();
+    }
+
+    public StringBuilder write(StringBuilder out) {
+        int height = getHeight();
+        for (int y = 0; y < height; y++) {
+            int empty = 0;
+            for (char c : grid[y]) {
+                if (c == EMPTY || c == ' ') {
+                    empty++;
+                } else {
+                    if (empty > 0) {
+                        out.append(empty);
+                        empty = 0;
+                    }
+                    out.append(c);
+                }
+            }
+            if (empty > 0) out.append(empty);
+            if (y < height - 1) out.append('/');
+        }
+        out.append(' ').append(blackToMove ? 'b' : 'w');
+        out.append(' ').append(FenWriter.castlingString(castlingMask));
+        out.append(' ');
+        if (epFile < 0) out.append('-');
+        else out.append((char) ('a' + epFile)).append(epRank);
+        out.append(' ').append(halfmove);
+        out.append(' ').append(fullmove);
+        return out;
+    }
+
+    /** Collects the parsed pieces as letters, row by row, then builds the grid. */
+    private static final class GridSink implements FenParser.Sink {
+        private final List<char[]> rows = new ArrayList<>(8);
+        PositionBuilder result;
+
+        @Override
+        public void piece(char letter, int x, int y) {
+            while (rows.size() <= y) rows.add(new char[8]);
+            char[] row = rows.get(y);
+            if (x >= row.length) {
+                row = Arrays.copyOf(row, Math.max(x + 1, row.length * 2));
+                rows.set(y, row);
+            }
+            row[x] = letter;
+        }
+
+        @Override
+        public void position(int width, int height, boolean blackToMove, int castlingMask,
+                             int epX, int epY, int halfmove, int fullmove) {
+            char[][] grid = new char[height][width];
+            for (int y = 0; y < height; y++) {
+                char[] parsed = (y < rows.size()) ? rows.get(y) : null;
+                for (int x = 0; x < width; x++) {
+                    char c = (parsed != null && x < parsed.length) ? parsed[x] : 0;
+                    grid[y][x] = (c == 0) ? EMPTY : c;
+                }
+            }
+            PositionBuilder pos = new PositionBuilder(grid);
+            pos.blackToMove = blackToMove;
+            pos.castlingMask = castlingMask;
+            if (epX >= 0) pos.setEnPassant(epX, height - epY);
+            pos.halfmove = halfmove;
+            pos.fullmove = fullmove;
+            result = pos;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.predixcode.core.fen;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.predixcode.core.GameConfig;
+
+/**
+ * Live start-position preview for config screens.
+ * {@link #request(String, GameConfig)} returns immediately: edits arriving
+ * within the debounce delay are coalesced into one computation, which runs
+ * on a background thread via {@link StartPositionService}. A newer request
+ * cancels the pending one, and stale results are dropped, so only the
+ * latest preview is delivered to the listener on the UI executor
+ * (e.g. Platform::runLater).
+ * Layouts use one seed per previewer, so a Chess960 preview does not
+ * re-randomise on every keystroke.
+ */
+public final class StartPositionPreviewer implements AutoCloseable {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    /** Result of one preview: the FEN and size, or an error for invalid input. */
+    public record Preview(String fen, int width, int height, String error) {
+        public boolean isValid() { return error == null; }
+    }
+
+    private final Executor uiExecutor;
+    private final Consumer<Preview> listener;
+    private final long debounceMillis;
+    private final long seed;
+
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "start-position-preview");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledFuture<?> pending; // guarded by 'this'
+
+    public StartPositionPreviewer(Executor uiExecutor, Consumer<Preview> listener) {
+        this(uiExecutor, listener, DEFAULT_DEBOUNCE_MILLIS, ThreadLocalRandom.current().nextLong());
+    }
+
+    public StartPositionPreviewer(Executor uiExecutor, Consumer<Preview> listener, long debounceMillis, long seed) {
+        this.uiExecutor = Objects.requireNonNull(uiExecutor, "uiExecutor");
+        this.listener = Objects.requireNonNull(listener, "listener");
+        this.debounceMillis = Math.max(0, debounceMillis);
+        this.seed = seed;
+    }
+
+    /** Seed the previews use; pass it on to game creation to start the previewed layout. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Schedules a preview of {@code baseFen} under {@code cfg}, superseding
+     * any earlier request. Never blocks.
+     */
+    public void request(String baseFen, GameConfig cfg) {
+        long gen = generation.incrementAndGet();
+        synchronized (this) {
+            if (worker.isShutdown()) return;
+            if (pending != null) pending.cancel(false);
+            pending = worker.schedule(() -> compute(gen, baseFen, cfg), debounceMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Stops the worker; pending previews are discarded. */
+    @Override
+    public void close() {
+        generation.incrementAndGet();
+        synchronized (this) {
+            worker.shutdownNow();
+        }
+    }
+
+    private void compute(long gen, String baseFen, GameConfig cfg) {
+        if (gen != generation.get()) return;
+
+        Preview preview;
+        try {
+            if (baseFen == null || baseFen.isBlank()) {
+                preview = new Preview(null, 0, 0, "No start position");
+            } else {
+                PositionBuilder position = StartPositionService.buildStartingPosition(baseFen, cfg, seed);
+                preview = new Preview(position.toFen(), position.getWidth(), position.getHeight(), null);
+            }
+        } catch (RuntimeException ex) {
+            preview = new Preview(null, 0, 0, ex.getMessage());
+        }
+
+        if (gen != generation.get()) return;
+        Preview result = preview;
+        uiExecutor.execute(() -> {
+            // A newer request may have been made while this was queued on the UI thread.
+            if (gen == generation.get()) listener.accept(result);
+        });
+    }
+}
@@ -1,39 +1,137 @@
 package com.predixcode.core.fen;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.predixcode.core.GameConfig;
+import com.predixcode.core.board.Board;
 import com.predixcode.core.fen.rules.BoardSizeFenRule;
 import com.predixcode.core.fen.rules.Chess960FenRule;
 import com.predixcode.core.fen.rules.StartFenRule;
 
 /**
  * Single entry point for GUIs: given a preset FEN + GameConfig,
- * compute the final starting FEN after applying board-size and
- * Chess960 rules.
+ * compute the final starting position after applying board-size and
+ * Chess960 rules, as a board or (on request) a FEN.
+ * Results are deterministic for a given seed. Explicitly seeded results are
+ * memoised in a bounded LRU cache keyed by (base FEN, size/layout config
+ * fields, seed), so creating many games from the same configuration
+ * transforms it once; one-off random layouts bypass the cache.
  */
 public final class StartPositionService {
 
     private StartPositionService() {}
 
+    public static final int CACHE_SIZE = 256;
+
+    /** Only the config fields the start-position rules read. */
+    private record Key(String baseFen, int width, int height, boolean fillExpandedFiles,
+                       boolean chess960, long seed) {}
+
+    private static final Map<Key, PositionBuilder> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, PositionBuilder> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /** Random layout (when the config has one); use a seed for reproducible starts. */
     public static String buildStartingFen(String baseFen, GameConfig cfg) {
-        return buildStartingFen(baseFen, cfg, new Random());
+        return buildStartingFen(baseFen, cfg, ThreadLocalRandom.current());
     }
 
+    /** Layout drawn from {@code random}; a one-off, so it is not cached. */
     public static String buildStartingFen(String baseFen, GameConfig cfg, Random random) {
-        System.out.println("BASE FEN : " + baseFen);
-        
+        if (cfg == null) {
+            return baseFen;
+        }
+        return startingPosition(baseFen, cfg, random.nextLong(), false).toFen();
+    }
 
+    /**
+     * Starting FEN for {@code seed}; the same inputs always give the same FEN.
+     */
+    public static String buildStartingFen(String baseFen, GameConfig cfg, long seed) {
         if (cfg == null) {
             return baseFen;
         }
+        return startingPosition(baseFen, cfg, seed, true).toFen();
+    }
 
+    /** Mutable copy of the starting position for {@code seed}. */
+    public static PositionBuilder buildStartingPosition(String baseFen, GameConfig cfg, long seed) {
+        if (cfg == null) {
+            return PositionBuilder.fromFen(baseFen);
+        }
+        return startingPosition(baseFen, cfg, seed, true).copy();
+    }
+
+    /** New board (no rules) in the starting position for {@code seed}, without a FEN round trip. */
+    public static Board createStartingBoard(String baseFen, GameConfig cfg, long seed) {
+        return createStartingBoard(baseFen, cfg, seed, true);
+    }
+
+    /**
+     * Like {@link #createStartingBoard(String, GameConfig, long)}; with
+     * {@code cache} false a seed-dependent layout is built without being
+     * memoised (for one-off random seeds that would only evict useful entries).
+     */
+    public static Board createStartingBoard(String baseFen, GameConfig cfg, long seed, boolean cache) {
+        if (cfg == null) {
+            return PositionBuilder.fromFen(baseFen).toBoard();
+        }
+        return startingPosition(baseFen, cfg, seed, cache).toBoard();
+    }
+
+    /** Cached, shared position (never modify it), or a fresh one if not cached. */
+    private static PositionBuilder startingPosition(String baseFen, GameConfig cfg, long seed, boolean cache) {
+        // Layouts without random choices do not depend on the seed: share one entry.
+        boolean seeded = dependsOnSeed(cfg);
+        long effectiveSeed = seeded ? seed : 0L;
+        if (seeded && !cache) {
+            return buildPosition(baseFen, cfg, effectiveSeed);
+        }
+        Key key = new Key(baseFen, cfg.boardWidth(), cfg.boardHeight(),
+                          cfg.fillExpandedFiles(), cfg.chess960(), effectiveSeed);
+
+        synchronized (CACHE) {
+            PositionBuilder cached = CACHE.get(key);
+            if (cached != null) return cached;
+        }
+
+        PositionBuilder position = buildPosition(baseFen, cfg, effectiveSeed);
+        synchronized (CACHE) {
+            CACHE.put(key, position);
+        }
+        return position;
+    }
+
+    private static PositionBuilder buildPosition(String baseFen, GameConfig cfg, long seed) {
         StartFenRule rule = cfg.chess960()
                 ? new Chess960FenRule()
                 : new BoardSizeFenRule();
+        PositionBuilder position = PositionBuilder.fromFen(baseFen);
+        rule.apply(position, cfg, new Random(seed));
+        return position;
+    }
+
+    /** Number of cached positions. */
+    public static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
 
-        String finalFen = rule.apply(baseFen, cfg, random);
-        System.out.println("FINAL FEN: " + finalFen);
-        return finalFen;
+    /** True if the layout for {@code cfg} makes random choices (so the seed matters). */
+    public static boolean dependsOnSeed(GameConfig cfg) {
+        return cfg.chess960() || cfg.fillExpandedFiles();
     }
-}
\ No newline at end of file
+}
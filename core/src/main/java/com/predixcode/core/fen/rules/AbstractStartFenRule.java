@@ -3,31 +3,26 @@ package com.predixcode.core.fen.rules;
 import java.util.Random;
 
 import com.predixcode.core.GameConfig;
-import com.predixcode.core.fen.FenUtils;
+import com.predixcode.core.fen.PositionBuilder;
 
 /**
- * Base class that handles splitting/joining the full FEN.
- * Subclasses only implement board-part logic.
+ * Base class for rules that only reshape the board grid.
+ * Subclasses only implement board-part logic; side to move, castling,
+ * en passant and clocks are left as they are.
  */
 public abstract class AbstractStartFenRule implements StartFenRule {
 
     @Override
-    public final String apply(String baseFen, GameConfig cfg, Random random) {
-        String[] fields = FenUtils.splitFen(baseFen);
-        String boardPart = fields[0];
-
-        String transformedBoard = applyToBoard(boardPart, cfg, random);
-        fields[0] = transformedBoard;
-
-        return FenUtils.joinFen(fields);
+    public final void apply(PositionBuilder position, GameConfig cfg, Random random) {
+        applyToBoard(position, cfg, random);
     }
 
     /**
-     * Transform only the board description (field 0 of FEN).
+     * Transform only the board grid (field 0 of FEN).
      */
-    protected abstract String applyToBoard(
-            String boardPart,
+    protected abstract void applyToBoard(
+            PositionBuilder position,
             GameConfig cfg,
             Random random
     );
-}
\ No newline at end of file
+}
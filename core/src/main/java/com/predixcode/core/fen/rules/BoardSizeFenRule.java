@@ -7,7 +7,7 @@ import java.util.List;
 import java.util.Random;
 
 import com.predixcode.core.GameConfig;
-import com.predixcode.core.fen.FenUtils;
+import com.predixcode.core.fen.PositionBuilder;
 
 /**
  * Resizes a position to a requested board width / height while preserving
@@ -34,19 +34,10 @@ import com.predixcode.core.fen.FenUtils;
 public class BoardSizeFenRule extends AbstractStartFenRule {
 
     @Override
-    protected String applyToBoard(String boardPart, GameConfig cfg, Random random) {
-        String[] rankStrings = FenUtils.splitBoard(boardPart);
-        int currentHeight = rankStrings.length;
-        if (currentHeight == 0) {
-            throw new IllegalArgumentException("Empty board part: " + boardPart);
-        }
-
-        int currentWidth = FenUtils.countSquaresInRank(rankStrings[0]);
-        for (String r : rankStrings) {
-            if (FenUtils.countSquaresInRank(r) != currentWidth) {
-                throw new IllegalArgumentException("Inconsistent rank widths in FEN: " + boardPart);
-            }
-        }
+    protected void applyToBoard(PositionBuilder position, GameConfig cfg, Random random) {
+        char[][] grid = position.grid();
+        int currentHeight = position.getHeight();
+        int currentWidth = position.getWidth();
 
         int targetWidth  = cfg.boardWidth()  > 0 ? cfg.boardWidth()  : currentWidth;
         int targetHeight = cfg.boardHeight() > 0 ? cfg.boardHeight() : currentHeight;
@@ -57,12 +48,6 @@ public class BoardSizeFenRule extends AbstractStartFenRule {
                     targetWidth + "x" + targetHeight);
         }
 
-        // Expand to char grid
-        char[][] grid = new char[currentHeight][];
-        for (int y = 0; y < currentHeight; y++) {
-            grid[y] = FenUtils.expandRankToArray(rankStrings[y]);
-        }
-
         // --- WIDTH -----------------------------------------------------------
 
         int extraWidth = targetWidth - currentWidth;
@@ -154,13 +139,7 @@ public class BoardSizeFenRule extends AbstractStartFenRule {
             }
         }
 
-        // --- Back to FEN -----------------------------------------------------
-
-        List<String> outRanks = new ArrayList<>(currentHeight);
-        for (char[] row : grid) {
-            outRanks.add(FenUtils.compressRank(row));
-        }
-        return String.join("/", outRanks);
+        position.setGrid(grid);
     }
 
     // ---------------------------------------------------------------------
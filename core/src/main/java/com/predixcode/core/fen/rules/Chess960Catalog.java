@@ -0,0 +1,194 @@
+package com.predixcode.core.fen.rules;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Chess960 back ranks addressed by start position number.
+ * For width 8 this is the standard Scharnagl numbering (0..959, 518 is the
+ * classic RNBQKBNR); other widths use the same scheme generalised:
+ *
+ *   index = light bishop + L * (dark bishop + D * (queen + Q * knights))
+ *
+ * with L / D the number of light (odd) / dark (even) files, the queen placed
+ * on the queen-th free file (if there is room for one), the knights placed by
+ * lexicographic combination rank on the remaining free files, and R K R on
+ * the last three. Each index is decoded in O(width) with no search; the
+ * ranks of small widths (up to {@link #TABLE_LIMIT} positions) are also
+ * tabulated on first use.
+ */
+public final class Chess960Catalog {
+
+    private Chess960Catalog() {}
+
+    /** Start position number of RNBQKBNR on 8 files. */
+    public static final int STANDARD = 518;
+
+    /** Widths with at most this many positions are tabulated. */
+    public static final int TABLE_LIMIT = 1 << 16;
+
+    private static final ConcurrentHashMap<Integer, String[]> TABLES = new ConcurrentHashMap<>();
+
+    /** Number of distinct back ranks on {@code width} files. */
+    public static long count(int width) {
+        checkWidth(width);
+        int light = width / 2, dark = width - light;
+        int queens = queenSlots(width);
+        int free = width - 2 - (queens > 1 ? 1 : 0);
+        return (long) light * dark * queens * binomial(free, free - 3);
+    }
+
+    /** Uniformly random start position number for {@code width} files. */
+    public static long randomIndex(int width, RandomGenerator random) {
+        return random.nextLong(count(width));
+    }
+
+    /**
+     * White back rank (uppercase) for start position {@code index}.
+     * Returns a fresh array the caller may modify.
+     */
+    public static char[] backRank(int width, long index) {
+        long count = count(width);
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Start position " + index + " out of range 0.." + (count - 1)
+                    + " for width " + width);
+        }
+        if (count <= TABLE_LIMIT) {
+            return table(width, count)[(int) index].toCharArray();
+        }
+        return decode(width, index);
+    }
+
+    /** White back rank for start position {@code index} as a string. */
+    public static String backRankString(int width, long index) {
+        long count = count(width);
+        if (index >= 0 && index < count && count <= TABLE_LIMIT) {
+            return table(width, count)[(int) index];
+        }
+        return new String(backRank(width, index));
+    }
+
+    /**
+     * Start position number of a back rank (either case), or -1 if it is not
+     * a valid arrangement in this scheme.
+     */
+    public static long indexOf(CharSequence rank) {
+        int width = rank.length();
+        if (width < 5) return -1;
+
+        int lightBishop = -1, darkBishop = -1;
+        for (int file = 0; file < width; file++) {
+            if (Character.toUpperCase(rank.charAt(file)) != 'B') continue;
+            if ((file & 1) == 0) {
+                if (darkBishop >= 0) return -1;
+                darkBishop = file;
+            } else {
+                if (lightBishop >= 0) return -1;
+                lightBishop = file;
+            }
+        }
+        if (lightBishop < 0 || darkBishop < 0) return -1;
+
+        // Walk the free files in order, as decode() fills them.
+        int queens = queenSlots(width);
+        int queen = 0, free = 0, knightsLeft = Math.max(0, width - 6);
+        int slot = 0;                // position among files left after the queen
+        int slotsLeft = width - 2 - (queens > 1 ? 1 : 0);
+        long knightRank = 0;
+        String rkr = "";
+        for (int file = 0; file < width; file++) {
+            if (file == lightBishop || file == darkBishop) continue;
+            char c = Character.toUpperCase(rank.charAt(file));
+            if (c == 'Q' && queens > 1) {
+                queen = free++;
+                continue;
+            }
+            free++;
+            if (c == 'N') {
+                if (knightsLeft == 0) return -1;
+                knightsLeft--;
+            } else if (c == 'R' || c == 'K') {
+                // Combinations skipped by leaving this slot free for R/K.
+                if (knightsLeft > 0) knightRank += binomial(slotsLeft - slot - 1, knightsLeft - 1);
+                rkr += c;
+            } else {
+                return -1;
+            }
+            slot++;
+        }
+        if (knightsLeft != 0 || !rkr.equals("RKR")) return -1;
+
+        int light = width / 2, dark = width - light;
+        return lightBishop / 2 + (long) light * (darkBishop / 2 + (long) dark * (queen + (long) queens * knightRank));
+    }
+
+    private static String[] table(int width, long count) {
+        return TABLES.computeIfAbsent(width, w -> {
+            String[] ranks = new String[(int) count];
+            for (int i = 0; i < ranks.length; i++) ranks[i] = new String(decode(w, i));
+            return ranks;
+        });
+    }
+
+    private static char[] decode(int width, long index) {
+        char[] rank = new char[width];
+        int light = width / 2, dark = width - light;
+
+        rank[2 * (int) (index % light) + 1] = 'B';
+        index /= light;
+        rank[2 * (int) (index % dark)] = 'B';
+        index /= dark;
+
+        int queens = queenSlots(width);
+        if (queens > 1) {
+            rank[nthFree(rank, (int) (index % queens))] = 'Q';
+        }
+        index /= queens;
+
+        // Unrank the knight combination over the remaining free files.
+        int slotsLeft = width - 2 - (queens > 1 ? 1 : 0);
+        int knightsLeft = Math.max(0, width - 6);
+        int slot = 0;
+        for (int file = 0; file < width && knightsLeft > 0; file++) {
+            if (rank[file] != 0) continue;
+            long withKnight = binomial(slotsLeft - slot - 1, knightsLeft - 1);
+            if (index < withKnight) {
+                rank[file] = 'N';
+                knightsLeft--;
+            } else {
+                index -= withKnight;
+            }
+            slot++;
+        }
+
+        char[] rkr = { 'R', 'K', 'R' };
+        for (int file = 0, k = 0; file < width; file++) {
+            if (rank[file] == 0) rank[file] = rkr[k++];
+        }
+        return rank;
+    }
+
+    /** Number of queen placements: the free files after the bishops, or 1 (no queen) if there is no room. */
+    private static int queenSlots(int width) {
+        return (width > 5) ? width - 2 : 1;
+    }
+
+    private static int nthFree(char[] rank, int n) {
+        for (int file = 0; file < rank.length; file++) {
+            if (rank[file] == 0 && n-- == 0) return file;
+        }
+        throw new IllegalStateException("No free file " + n);
+    }
+
+    private static long binomial(int n, int k) {
+        if (k < 0 || k > n) return 0;
+        k = Math.min(k, n - k);
+        long result = 1;
+        for (int i = 1; i <= k; i++) result = result * (n - k + i) / i;
+        return result;
+    }
+
+    private static void checkWidth(int width) {
+        if (width < 5) throw new IllegalArgumentException("Chess960 requires width >= 5, got " + width);
+    }
+}
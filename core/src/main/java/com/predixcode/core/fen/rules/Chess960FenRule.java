@@ -1,13 +1,9 @@
 package com.predixcode.core.fen.rules;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 import java.util.Random;
 
 import com.predixcode.core.GameConfig;
-import com.predixcode.core.fen.FenUtils;
+import com.predixcode.core.fen.PositionBuilder;
 
 /**
  * Chess960 variant of BoardSizeFenRule.
@@ -20,34 +16,39 @@ import com.predixcode.core.fen.FenUtils;
  *         - king somewhere between the two rooks
  *         - at least one queen if there is enough room
  *         - remaining squares are knights
+ *      The layout is looked up by start position number in Chess960Catalog.
  * Only the *back ranks* (one for white, one for black) are overwritten.
  * All other ranks are preserved exactly as in the resized position.
  */
 public class Chess960FenRule extends BoardSizeFenRule {
 
+    private final long startPosition;
+
+    /** Random start position on every apply. */
+    public Chess960FenRule() {
+        this(-1);
+    }
+
+    /**
+     * Fixed start position number (see {@link Chess960Catalog}); negative or
+     * out of range for the board width means random.
+     */
+    public Chess960FenRule(long startPosition) {
+        this.startPosition = startPosition;
+    }
+
     @Override
-    protected String applyToBoard(String boardPart, GameConfig cfg, Random random) {
+    protected void applyToBoard(PositionBuilder position, GameConfig cfg, Random random) {
         // 1) First, let BoardSizeFenRule handle width/height non-destructively.
-        String resizedBoard = super.applyToBoard(boardPart, cfg, random);
+        super.applyToBoard(position, cfg, random);
 
         // 2) Now apply Chess960 back-rank randomization on top of the resized board.
-        String[] rankStrings = FenUtils.splitBoard(resizedBoard);
-        int height = rankStrings.length;
-        if (height == 0) {
-            return resizedBoard;
-        }
-
-        int width = FenUtils.countSquaresInRank(rankStrings[0]);
+        int width = position.getWidth();
         if (width < 5) {
             // Not enough files to do anything meaningful; leave as-is.
-            return resizedBoard;
-        }
-
-        // Expand to a mutable grid.
-        char[][] grid = new char[height][];
-        for (int y = 0; y < height; y++) {
-            grid[y] = FenUtils.expandRankToArray(rankStrings[y]);
+            return;
         }
+        char[][] grid = position.grid();
 
         // Find white & black back-rank indices.
         int whiteBack = findBackRankIndex(grid, /*white=*/true);
@@ -62,13 +63,6 @@ public class Chess960FenRule extends BoardSizeFenRule {
 
         grid[whiteBack] = whiteBackRank;
         grid[blackBack] = blackBackRank;
-
-        // Compress back to board-part FEN.
-        List<String> outRanks = new ArrayList<>(height);
-        for (char[] row : grid) {
-            outRanks.add(FenUtils.compressRank(row));
-        }
-        return String.join("/", outRanks);
     }
 
     /**
@@ -107,98 +101,14 @@ public class Chess960FenRule extends BoardSizeFenRule {
         return false;
     }
 
+    /**
+     * Back rank for the configured start position number, or a random one
+     * (see {@link Chess960Catalog}).
+     */
     protected char[] createWhiteBackRank(int width, Random random) {
-        if (width < 5) {
-            throw new IllegalArgumentException(
-                    "Chess960 requires width >= 5, got " + width);
-        }
-
-        char[] rank = new char[width];
-        Arrays.fill(rank, '\0');
-
-        // Partition files by color (a1 treated as dark; only parity matters).
-        List<Integer> darkSquares = new ArrayList<>();
-        List<Integer> lightSquares = new ArrayList<>();
-        for (int file = 0; file < width; file++) {
-            if ((file & 1) == 0) {
-                darkSquares.add(file);
-            } else {
-                lightSquares.add(file);
-            }
-        }
-
-        // --- Bishops on opposite colors ---
-        int b1Index = pickAndRemove(darkSquares, random);
-        int b2Index = pickAndRemove(lightSquares, random);
-        rank[b1Index] = 'B';
-        rank[b2Index] = 'B';
-
-        // Remaining free indices.
-        List<Integer> remaining = new ArrayList<>();
-        for (int i = 0; i < width; i++) {
-            if (rank[i] == '\0') remaining.add(i);
-        }
-
-        // --- King between two rooks ---
-        Collections.shuffle(remaining, random);
-        int a = remaining.get(0);
-        int b = remaining.get(1);
-        int c = remaining.get(2);
-        int[] triple = new int[]{a, b, c};
-        Arrays.sort(triple);
-        int rookLeft = triple[0];
-        int kingIndex = triple[1];
-        int rookRight = triple[2];
-
-        rank[rookLeft] = 'R';
-        rank[kingIndex] = 'K';
-        rank[rookRight] = 'R';
-
-        remaining.remove(Integer.valueOf(rookLeft));
-        remaining.remove(Integer.valueOf(kingIndex));
-        remaining.remove(Integer.valueOf(rookRight));
-
-        // --- Remaining squares: 1 queen (if any) + knights ---
-        int extraSlots = remaining.size();             // width - 5 (minus bishops & RKRs)
-        int queens = (extraSlots > 0) ? 1 : 0;
-        int knights = extraSlots - queens;
-
-        Collections.shuffle(remaining, random);
-        int idx = 0;
-        for (int i = 0; i < queens; i++) {
-            int pos = remaining.get(idx++);
-            rank[pos] = 'Q';
-        }
-        for (int i = 0; i < knights; i++) {
-            int pos = remaining.get(idx++);
-            rank[pos] = 'N';
-        }
-
-        // Any leftover (shouldn't happen) becomes a knight.
-        while (idx < remaining.size()) {
-            int pos = remaining.get(idx++);
-            if (rank[pos] == '\0') {
-                rank[pos] = 'N';
-            }
-        }
-
-        // Final safety: fill any still-empty cells as knights.
-        for (int i = 0; i < width; i++) {
-            if (rank[i] == '\0') {
-                rank[i] = 'N';
-            }
-        }
-
-        return rank;
-    }
-
-    private static int pickAndRemove(List<Integer> list, Random random) {
-        if (list.isEmpty()) {
-            throw new IllegalStateException("No squares available");
-        }
-        int idx = random.nextInt(list.size());
-        int value = list.get(idx);
-        list.remove(idx);
-        return value;
+        long index = (startPosition >= 0 && startPosition < Chess960Catalog.count(width))
+                ? startPosition
+                : Chess960Catalog.randomIndex(width, random);
+        return Chess960Catalog.backRank(width, index);
     }
-}
\ No newline at end of file
+}
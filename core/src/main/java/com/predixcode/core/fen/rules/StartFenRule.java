@@ -3,18 +3,31 @@ package com.predixcode.core.fen.rules;
 import java.util.Random;
 
 import com.predixcode.core.GameConfig;
+import com.predixcode.core.fen.PositionBuilder;
 
 /**
- * A "start position" rule: transforms the starting FEN based on GameConfig,
+ * A "start position" rule: transforms the starting position based on GameConfig,
  * without touching any runtime move rules.
  */
 public interface StartFenRule {
 
     /**
-     * @param baseFen FEN from preset or user override.
-     * @param cfg     the game configuration (width/height, chess960, etc.)
-     * @param random  RNG for any randomized layouts (e.g., Chess960)
+     * Transforms {@code position} in place.
+     *
+     * @param position position from preset or user override
+     * @param cfg      the game configuration (width/height, chess960, etc.)
+     * @param random   RNG for any randomized layouts (e.g., Chess960)
+     */
+    void apply(PositionBuilder position, GameConfig cfg, Random random);
+
+    /**
+     * String form of {@link #apply(PositionBuilder, GameConfig, Random)}.
+     *
      * @return transformed FEN string (full 6-field FEN)
      */
-    String apply(String baseFen, GameConfig cfg, Random random);
+    default String apply(String baseFen, GameConfig cfg, Random random) {
+        PositionBuilder position = PositionBuilder.fromFen(baseFen);
+        apply(position, cfg, random);
+        return position.toFen();
+    }
 }
@@ -0,0 +1,183 @@
+package com.predixcode.core.perft;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.predixcode.core.GameConfig;
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.MoveResult;
+import com.predixcode.core.board.SquareSet;
+import com.predixcode.core.board.pieces.Piece;
+import com.predixcode.core.fen.ExtendedFen;
+import com.predixcode.core.rules.RuleBuilder;
+
+/**
+ * Perft: counts the leaf nodes of the legal move tree to a fixed depth,
+ * to verify move generation and measure its throughput.
+ * Depth counts plies (single moves), so with multi-move turns one turn is
+ * several plies. Moves are generated with
+ * {@link Board#computeLegalTargetSquares(Piece)}, played with
+ * {@link Board#playTrusted} (end conditions skipped; fifty-move and
+ * repetition draws are ignored as usual for perft) and taken back with
+ * {@link Board#unmake}. The last ply is counted without being played.
+ * {@link #run} splits the root moves across a fork-join pool, each task
+ * on its own {@link Board#copy()}.
+ * Pawns do not promote in this engine, so counts match published perft
+ * results only where no promotion is reachable within the depth.
+ */
+public final class Perft {
+
+    private Perft() {}
+
+    /** Nodes at {@code depth}, per root move ("e2-e4") and in total, with timing. */
+    public record Result(int depth, long nodes, Map<String, Long> divide, long elapsedNanos) {
+
+        public double nodesPerSecond() {
+            return elapsedNanos > 0 ? nodes * 1e9 / elapsedNanos : 0;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<String, Long> e : divide.entrySet()) {
+                sb.append(e.getKey()).append(": ").append(e.getValue()).append('\n');
+            }
+            sb.append("Depth ").append(depth).append(": ").append(nodes).append(" nodes in ")
+              .append(elapsedNanos / 1_000_000).append(" ms (")
+              .append(Math.round(nodesPerSecond())).append(" nodes/s)");
+            return sb.toString();
+        }
+    }
+
+    /** Started board for {@code fen} with the rules of {@code cfg}. */
+    public static Board setUp(String fen, GameConfig cfg) {
+        Board board = Board.fromFen(fen);
+        board.setRules(RuleBuilder.buildRules(cfg));
+        board.startGame();
+        return board;
+    }
+
+    /** Started board for a plain or extended FEN (rules from the extension). */
+    public static Board setUp(String fen) {
+        return ExtendedFen.parse(fen);
+    }
+
+    /** Leaf count at {@code depth} on the calling thread. The board is restored afterwards. */
+    public static long perft(Board board, int depth) {
+        if (depth <= 0) return 1;
+
+        Piece[] movers = movers(board);
+        if (depth == 1) {
+            long n = 0;
+            for (Piece p : movers) n += board.computeLegalTargetSquares(p).size();
+            return n;
+        }
+
+        long nodes = 0;
+        for (Piece p : movers) {
+            SquareSet targets = board.computeLegalTargetSquares(p);
+            for (int sq = targets.nextSquare(0); sq >= 0; sq = targets.nextSquare(sq + 1)) {
+                MoveResult r = board.playTrusted(p, targets.xOf(sq), targets.yOf(sq), true);
+                nodes += perft(board, depth - 1);
+                board.unmake(r.getUndoRecord());
+            }
+        }
+        return nodes;
+    }
+
+    /** Sequential perft with per-root-move counts. */
+    public static Result divide(Board board, int depth) {
+        long start = System.nanoTime();
+        Map<String, Long> divide = new LinkedHashMap<>();
+        long total = 0;
+        for (RootMove move : rootMoves(board)) {
+            MoveResult r = board.playTrusted(move.piece(), move.toX(), move.toY(), true);
+            long n = perft(board, depth - 1);
+            board.unmake(r.getUndoRecord());
+            divide.put(move.name(), n);
+            total += n;
+        }
+        return new Result(depth, total, divide, System.nanoTime() - start);
+    }
+
+    /** Parallel perft with per-root-move counts on the common pool. */
+    public static Result run(Board board, int depth) {
+        return run(board, depth, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel perft: one task per root move, each on its own copy of
+     * {@code board} (which is only read). Divide order is the move order.
+     */
+    public static Result run(Board board, int depth, ForkJoinPool pool) {
+        if (depth <= 0) return new Result(depth, 1, Map.of(), 0);
+
+        long start = System.nanoTime();
+        List<RootMove> moves = rootMoves(board);
+        List<RootTask> tasks = new ArrayList<>(moves.size());
+        for (RootMove move : moves) tasks.add(new RootTask(board, move, depth - 1));
+
+        Map<String, Long> divide = new LinkedHashMap<>();
+        long total = 0;
+        for (RootTask task : tasks) pool.execute(task);
+        for (RootTask task : tasks) {
+            long n = task.join();
+            divide.put(task.move.name(), n);
+            total += n;
+        }
+        return new Result(depth, total, divide, System.nanoTime() - start);
+    }
+
+    private record RootMove(Piece piece, int fromX, int fromY, int toX, int toY, String name) {}
+
+    private static List<RootMove> rootMoves(Board board) {
+        List<RootMove> moves = new ArrayList<>();
+        for (Piece p : movers(board)) {
+            SquareSet targets = board.computeLegalTargetSquares(p);
+            for (int sq = targets.nextSquare(0); sq >= 0; sq = targets.nextSquare(sq + 1)) {
+                int tx = targets.xOf(sq), ty = targets.yOf(sq);
+                moves.add(new RootMove(p, p.posX, p.posY, tx, ty,
+                        board.toAlg(p.posX, p.posY) + "-" + board.toAlg(tx, ty)));
+            }
+        }
+        return moves;
+    }
+
+    /** Pieces of the side to move, copied so make/unmake can reorder the live list. */
+    private static Piece[] movers(Board board) {
+        List<Piece> pieces = board.getPieces();
+        Piece[] out = new Piece[pieces.size()];
+        int n = 0;
+        for (Piece p : pieces) {
+            if (p.getColor() != null && p.getColor().equals(board.getActiveColor())) out[n++] = p;
+        }
+        return (n == out.length) ? out : Arrays.copyOf(out, n);
+    }
+
+    private static final class RootTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Board root;
+        private final RootMove move;
+        private final int depth;
+
+        RootTask(Board root, RootMove move, int depth) {
+            this.root = root;
+            this.move = move;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            Board board = root.copy();
+            Piece piece = board.getPieceAt(move.fromX(), move.fromY());
+            board.playTrusted(piece, move.toX(), move.toY(), true);
+            return perft(board, depth);
+        }
+    }
+}
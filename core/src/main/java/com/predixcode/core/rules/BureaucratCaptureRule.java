@@ -1,6 +1,8 @@
 package com.predixcode.core.rules;
 
 import com.predixcode.core.board.Board;
+import com.predixcode.core.board.PieceDelta;
+import com.predixcode.core.board.colors.Color;
 import com.predixcode.core.board.pieces.Bureaucrat;
 import com.predixcode.core.board.pieces.Piece;
 
@@ -13,7 +15,23 @@ public class BureaucratCaptureRule extends Rule {
             return;
         }
 
+        int x = captured.posX, y = captured.posY;
+        Color oldColor = captured.getColor();
+
         ((Bureaucrat) captured).actionOnCapture(board);
+
+        // Report the flip/relocation (or removal) as piece deltas.
+        if (!board.getPieces().contains(captured)) {
+            ctx.record(PieceDelta.removed(captured, x, y));
+        } else {
+            if (!captured.getColor().equals(oldColor)) {
+                ctx.record(PieceDelta.colorChanged(captured, x, y, oldColor, captured.getColor()));
+            }
+            if (captured.posX != x || captured.posY != y) {
+                ctx.record(PieceDelta.moved(captured, x, y, captured.posX, captured.posY));
+            }
+        }
+        board.markChanged();
         // Mark capture as handled: standard capture rule should not remove it again.
         ctx.captureHandled = true;
     }
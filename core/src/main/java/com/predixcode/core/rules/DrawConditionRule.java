@@ -0,0 +1,149 @@
+package com.predixcode.core.rules;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.GameStatus;
+import com.predixcode.core.board.PositionHash;
+import com.predixcode.core.board.pieces.King;
+import com.predixcode.core.board.pieces.Pawn;
+import com.predixcode.core.board.pieces.Rook;
+
+/**
+ * Draw conditions: fifty-move rule (100 moves without pawn move or capture)
+ * and threefold repetition.
+ * Repetition keys are the board's position hash mixed with the remaining
+ * move budget of {@link DynamicMoveTurnRule}, so with multi-move turns only
+ * positions with the same side to move and the same moves left compare equal.
+ * Keys are only counted since the last irreversible move (pawn move, capture,
+ * castling-rights change), so each ply costs O(1). Every irreversible move
+ * starts a new count map and the old one is kept for undo, so taking back a
+ * ply is O(1) as well, including across irreversible moves.
+ * Must run after the turn rule.
+ */
+public class DrawConditionRule extends Rule {
+
+    public static final int FIFTY_MOVE_HALFMOVES = 100;
+    public static final int REPETITIONS = 3;
+
+    private static final long BUDGET_SALT = 0xB0D6_E700_0000_0000L;
+
+    /** Keys since one irreversible move: counts of keys[start, end). */
+    private static final class Window {
+        final int start;
+        int end;
+        final Map<Long, Integer> counts = new HashMap<>();
+
+        Window(int start) {
+            this.start = start;
+            this.end = start;
+        }
+    }
+
+    /** Undo state: the window and the key log size before/after a ply. */
+    private record Mark(Window window, int size) {}
+
+    // Key log of this game; the current window counts keys[window.start, size).
+    // Entries below size are never rewritten, so undo only moves the bounds.
+    private long[] keys = new long[64];
+    private int size;
+    private Window window = new Window(0);
+
+    private int castlingBefore = -1; // castling mask before a king/rook move, -1 otherwise
+
+    @Override
+    public void onGameStart(Board board) {
+        size = 0;
+        window = new Window(0);
+        push(keyOf(board), false);
+    }
+
+    @Override
+    public void beforeMove(Board board, MoveContext ctx) {
+        // Only king and rook moves can change castling rights (rook captures reset anyway).
+        castlingBefore = (ctx.piece instanceof King || ctx.piece instanceof Rook)
+                ? board.getCastlingMask()
+                : -1;
+    }
+
+    @Override
+    public void afterTurn(Board board, MoveContext ctx) {
+        boolean irreversible = ctx.piece instanceof Pawn
+                || ctx.isCapture
+                || (castlingBefore >= 0 && castlingBefore != board.getCastlingMask());
+        castlingBefore = -1;
+
+        int seen = push(keyOf(board), irreversible);
+        if (ctx.gameStatus.isOver() || ctx.skipEndConditions) return;
+
+        if (board.getHalfmove() >= FIFTY_MOVE_HALFMOVES) {
+            board.setGameStatus(GameStatus.DRAW_FIFTY_MOVES);
+            ctx.endGame(GameStatus.DRAW_FIFTY_MOVES, "Draw by the fifty-move rule.");
+        } else if (seen >= REPETITIONS) {
+            board.setGameStatus(GameStatus.DRAW_REPETITION);
+            ctx.endGame(GameStatus.DRAW_REPETITION, "Draw by threefold repetition.");
+        }
+    }
+
+    /** How often the current position has occurred since the last irreversible move. */
+    public int getRepetitionCount(Board board) {
+        return window.counts.getOrDefault(keyOf(board), 0);
+    }
+
+    @Override
+    public Object saveState() {
+        return new Mark(window, size);
+    }
+
+    @Override
+    public void restoreState(Object state) {
+        if (!(state instanceof Mark m)) return;
+        Window w = m.window();
+        if (w == window) {
+            // Undo or redo within the current window: adjust by the plies in between.
+            for (int i = m.size(); i < size; i++) uncount(keys[i]);
+            for (int i = size; i < m.size(); i++) w.counts.merge(keys[i], 1, Integer::sum);
+        } else if (w.end != m.size()) {
+            // Not where that window was left (e.g. a jump): recount it.
+            w.counts.clear();
+            for (int i = w.start; i < m.size(); i++) w.counts.merge(keys[i], 1, Integer::sum);
+        }
+        // Otherwise the window was left exactly there (stepping back or forward
+        // across an irreversible move): its counts are still valid.
+        window = w;
+        size = m.size();
+        w.end = size;
+    }
+
+    @Override
+    public Rule copy() {
+        DrawConditionRule copy = new DrawConditionRule();
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 64));
+        copy.size = size;
+        copy.window = new Window(window.start);
+        copy.window.end = size;
+        copy.window.counts.putAll(window.counts);
+        copy.castlingBefore = castlingBefore;
+        return copy;
+    }
+
+    private int push(long key, boolean irreversible) {
+        if (irreversible) window = new Window(size);
+        if (size == keys.length) keys = Arrays.copyOf(keys, size * 2);
+        keys[size++] = key;
+        window.end = size;
+        return window.counts.merge(key, 1, Integer::sum);
+    }
+
+    private void uncount(long key) {
+        window.counts.computeIfPresent(key, (k, n) -> n > 1 ? n - 1 : null);
+    }
+
+    private static long keyOf(Board board) {
+        DynamicMoveTurnRule turns = board.findRule(DynamicMoveTurnRule.class);
+        int budget = (turns != null) ? turns.getMovesLeftForActive() : 0;
+        return board.getPositionHash() ^ PositionHash.mix(BUDGET_SALT + budget);
+    }
+}
@@ -14,6 +14,7 @@ public class DynamicMoveTurnRule extends Rule {
     private final int blackMovesPerTurn;
 
     private int movesLeftForActive;  // budget for current activeColor
+    private int startingMovesLeft;   // 0 = full budget at game start
 
     public DynamicMoveTurnRule(int whiteMovesPerTurn, int blackMovesPerTurn) {
         this.whiteMovesPerTurn = Math.max(1, whiteMovesPerTurn);
@@ -23,7 +24,35 @@ public class DynamicMoveTurnRule extends Rule {
     @Override
     public void onGameStart(Board board) {
         Color active = board.getActiveColor();
-        movesLeftForActive = getBudgetFor(active);
+        int budget = getBudgetFor(active);
+        movesLeftForActive = (startingMovesLeft > 0) ? Math.min(startingMovesLeft, budget) : budget;
+    }
+
+    public int getWhiteMovesPerTurn() { return whiteMovesPerTurn; }
+    public int getBlackMovesPerTurn() { return blackMovesPerTurn; }
+
+    /**
+     * Moves left for the side to move when the game starts, for positions
+     * saved in the middle of a turn. 0 (default) means the full budget.
+     */
+    public void setStartingMovesLeft(int movesLeft) {
+        this.startingMovesLeft = Math.max(0, movesLeft);
+    }
+
+    /**
+     * Moves the side to move still has in its current turn.
+     */
+    public int getMovesLeftForActive() {
+        return movesLeftForActive;
+    }
+
+    /**
+     * True if the side to move has not moved yet in its current turn.
+     * While a turn is in progress (before afterTurn), this tells whether
+     * the move being played is the first of the turn.
+     */
+    public boolean isFirstMoveOfTurn(Board board) {
+        return movesLeftForActive <= 0 || movesLeftForActive == getBudgetFor(board.getActiveColor());
     }
 
     private int getBudgetFor(Color color) {
@@ -68,6 +97,24 @@ public class DynamicMoveTurnRule extends Rule {
         // else: keep same activeColor; next move is still this side
     }
 
+    @Override
+    public Object saveState() {
+        return movesLeftForActive;
+    }
+
+    @Override
+    public void restoreState(Object state) {
+        if (state instanceof Integer left) movesLeftForActive = left;
+    }
+
+    @Override
+    public Rule copy() {
+        DynamicMoveTurnRule copy = new DynamicMoveTurnRule(whiteMovesPerTurn, blackMovesPerTurn);
+        copy.movesLeftForActive = movesLeftForActive;
+        copy.startingMovesLeft = startingMovesLeft;
+        return copy;
+    }
+
     private void switchPlayer(Board board) {
         Color c = board.getActiveColor();
         if (c != null) board.setActiveColor(c.opposite());
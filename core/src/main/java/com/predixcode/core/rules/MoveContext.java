@@ -1,5 +1,11 @@
 package com.predixcode.core.rules;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import com.predixcode.core.board.GameStatus;
+import com.predixcode.core.board.MoveResult;
+import com.predixcode.core.board.PieceDelta;
 import com.predixcode.core.board.colors.Color;
 import com.predixcode.core.board.pieces.Piece;
 
@@ -25,6 +31,20 @@ public final class MoveContext {
     // Turn control: if a TurnRule wants multiple moves, it can set endsTurn = false
     public boolean endsTurn = true;
 
+    // Trusted replay: set for all but the final ply; end-condition rules skip their checks.
+    public boolean skipEndConditions = false;
+
+    // Validation outcome: validation rules call reject(...) instead of throwing.
+    public String rejection = null;
+    public MoveResult.Rejection rejectionKind = null;
+
+    // Every piece change of this move, in application order (see record(...)).
+    public final List<PieceDelta> deltas = new ArrayList<>(4);
+
+    // Game outcome: end-condition rules call endGame(...) instead of throwing.
+    public GameStatus gameStatus = GameStatus.ONGOING;
+    public String gameMessage = null;
+
     public MoveContext(Piece piece, int[] fromXY, int[] toXY) {
         this.piece = piece;
         this.fromXY = fromXY;
@@ -41,4 +61,30 @@ public final class MoveContext {
     public void setCapturedPiece(Piece capturedPiece) {
         this.capturedPiece = capturedPiece;
     }
+
+    /** Records a piece change; rules must call this for every piece they move, remove, add or recolor. */
+    public void record(PieceDelta delta) {
+        deltas.add(delta);
+    }
+
+    /** Rejects the move as invalid; the remaining validation rules are skipped. */
+    public void reject(String reason) {
+        reject(MoveResult.Rejection.INVALID_MOVE, reason);
+    }
+
+    /** Rejects the move with the given kind; the remaining validation rules are skipped. */
+    public void reject(MoveResult.Rejection kind, String reason) {
+        this.rejection = (reason != null) ? reason : "Illegal move";
+        this.rejectionKind = kind;
+    }
+
+    public boolean isRejected() {
+        return rejection != null;
+    }
+
+    /** Records that this move ended the game. */
+    public void endGame(GameStatus status, String message) {
+        this.gameStatus = status;
+        this.gameMessage = message;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.predixcode.core.rules;
 
 import com.predixcode.core.board.Board;
+import com.predixcode.core.board.MoveResult;
 
 /**
  * Composable rule with multiple hooks.
@@ -16,7 +17,10 @@ public abstract class Rule {
 
     /**
      * Called to validate a move.
-     * Throw IllegalArgumentException / IllegalStateException to reject the move.
+     * Call {@link MoveContext#reject(String)} to reject an invalid move, or
+     * {@link MoveContext#reject(MoveResult.Rejection, String)} with INVALID_STATE
+     * when the game state forbids it. Throwing IllegalArgumentException /
+     * IllegalStateException still works (mapped to those two kinds) but is slower.
      */
     public void validateMove(Board board, MoveContext ctx) {}
 
@@ -30,7 +34,26 @@ public abstract class Rule {
      * Called at the end of the move. Good place for:
      * - halfmove/fullmove updates
      * - activeColor / multi-move budget
-     * - end conditions (checkmate, stalemate, custom wins)
+     * - end conditions (checkmate, stalemate, custom wins),
+     *   reported via {@link MoveContext#endGame}; skip them while
+     *   {@link MoveContext#skipEndConditions} is set (trusted replay)
      */
     public void afterTurn(Board board, MoveContext ctx) {}
+
+    /**
+     * Rules with per-game state (e.g. a turn budget) return an immutable
+     * snapshot of it here; Board stores it with each move so takebacks
+     * can restore it via {@link #restoreState(Object)}.
+     */
+    public Object saveState() { return null; }
+
+    /** Restores a snapshot previously returned by {@link #saveState()}. */
+    public void restoreState(Object state) {}
+
+    /**
+     * Rule instance for a copied board ({@link Board#copy()}).
+     * Stateless rules are shared; rules with per-game state return an
+     * independent copy of it.
+     */
+    public Rule copy() { return this; }
 }
\ No newline at end of file
@@ -33,6 +33,9 @@ public final class RuleBuilder {
         int w = Math.max(0, cfg.whiteMovesPerTurn());
         int b = Math.max(0, cfg.blackMovesPerTurn());
         rules.add(new DynamicMoveTurnRule(w, b));
+
+        // Draws (after the turn rule: needs the updated clocks, side and budget)
+        rules.add(new DrawConditionRule());
         return rules;
     }
 
@@ -0,0 +1,137 @@
+package com.predixcode.core.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.predixcode.core.board.Board;
+
+/**
+ * A rule list compiled into one dispatch array per hook.
+ * Each array only contains the rules that actually override that hook,
+ * so a move never pays for the empty defaults in {@link Rule}.
+ * Rule order inside each array is the order of the source list.
+ * Instances are immutable; Board rebuilds its pipeline when its rules change.
+ */
+public final class RulePipeline {
+
+    private static final int ON_GAME_START = 1;
+    private static final int BEFORE_MOVE   = 1 << 1;
+    private static final int VALIDATE_MOVE = 1 << 2;
+    private static final int AFTER_MOVE    = 1 << 3;
+    private static final int AFTER_TURN    = 1 << 4;
+    private static final int STATEFUL      = 1 << 5;
+
+    /** Overridden-hook mask per rule class, resolved once per class. */
+    private static final ClassValue<Integer> HOOKS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            int mask = 0;
+            if (overrides(type, "onGameStart",  Board.class))                    mask |= ON_GAME_START;
+            if (overrides(type, "beforeMove",   Board.class, MoveContext.class)) mask |= BEFORE_MOVE;
+            if (overrides(type, "validateMove", Board.class, MoveContext.class)) mask |= VALIDATE_MOVE;
+            if (overrides(type, "afterMove",    Board.class, MoveContext.class)) mask |= AFTER_MOVE;
+            if (overrides(type, "afterTurn",    Board.class, MoveContext.class)) mask |= AFTER_TURN;
+            if (overrides(type, "saveState"))                                    mask |= STATEFUL;
+            return mask;
+        }
+    };
+
+    private static final Object[] NO_STATE = new Object[0];
+
+    public static final RulePipeline EMPTY = compile(List.of());
+
+    private final Rule[] onGameStart;
+    private final Rule[] beforeMove;
+    private final Rule[] validateMove;
+    private final Rule[] afterMove;
+    private final Rule[] afterTurn;
+    private final Rule[] stateful;
+
+    private RulePipeline(Rule[] onGameStart,
+                         Rule[] beforeMove,
+                         Rule[] validateMove,
+                         Rule[] afterMove,
+                         Rule[] afterTurn,
+                         Rule[] stateful) {
+        this.onGameStart = onGameStart;
+        this.beforeMove = beforeMove;
+        this.validateMove = validateMove;
+        this.afterMove = afterMove;
+        this.afterTurn = afterTurn;
+        this.stateful = stateful;
+    }
+
+    /**
+     * Compile a rule list into per-hook dispatch arrays.
+     */
+    public static RulePipeline compile(List<Rule> rules) {
+        return new RulePipeline(
+            select(rules, ON_GAME_START),
+            select(rules, BEFORE_MOVE),
+            select(rules, VALIDATE_MOVE),
+            select(rules, AFTER_MOVE),
+            select(rules, AFTER_TURN),
+            select(rules, STATEFUL)
+        );
+    }
+
+    public void onGameStart(Board board) {
+        for (Rule rule : onGameStart) rule.onGameStart(board);
+    }
+
+    /**
+     * Runs validation until the first rule rejects the move.
+     */
+    public void validateMove(Board board, MoveContext ctx) {
+        for (Rule rule : validateMove) {
+            rule.validateMove(board, ctx);
+            if (ctx.isRejected()) return;
+        }
+    }
+
+    public void beforeMove(Board board, MoveContext ctx) {
+        for (Rule rule : beforeMove) rule.beforeMove(board, ctx);
+    }
+
+    public void afterMove(Board board, MoveContext ctx) {
+        for (Rule rule : afterMove) rule.afterMove(board, ctx);
+    }
+
+    public void afterTurn(Board board, MoveContext ctx) {
+        for (Rule rule : afterTurn) rule.afterTurn(board, ctx);
+    }
+
+    /**
+     * Snapshot of every stateful rule (see {@link Rule#saveState()}), in pipeline order.
+     */
+    public Object[] saveState() {
+        if (stateful.length == 0) return NO_STATE;
+        Object[] states = new Object[stateful.length];
+        for (int i = 0; i < stateful.length; i++) states[i] = stateful[i].saveState();
+        return states;
+    }
+
+    /**
+     * Restores a snapshot taken by {@link #saveState()} on this pipeline.
+     */
+    public void restoreState(Object[] states) {
+        if (states == null || states.length != stateful.length) return;
+        for (int i = 0; i < stateful.length; i++) stateful[i].restoreState(states[i]);
+    }
+
+    private static Rule[] select(List<Rule> rules, int hook) {
+        List<Rule> out = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            if ((HOOKS.get(rule.getClass()) & hook) != 0) out.add(rule);
+        }
+        return out.toArray(new Rule[0]);
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... params) {
+        try {
+            return type.getMethod(name, params).getDeclaringClass() != Rule.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.predixcode.core.rules;
 
 import com.predixcode.core.board.Board;
+import com.predixcode.core.board.GameStatus;
 import com.predixcode.core.board.colors.Color;
 import com.predixcode.core.board.pieces.Piece;
 
@@ -8,16 +9,25 @@ public class StandardEndConditionRule extends Rule {
 
     @Override
     public void afterMove(Board board, MoveContext ctx) {
+        if (ctx.skipEndConditions) return;
+
         Piece movingPiece = ctx.piece;
         Color opponent = movingPiece.getColor().opposite();
-        boolean opponentInCheck = board.isInCheck(opponent);
 
-        if (opponentInCheck && board.hasNoLegalMoves(opponent)) {
-            throw new IllegalStateException("Checkmate! " + movingPiece.getColor() + " wins.");
-        }
+        // One evaluation per move: check + first-legal-move search, cached on the board.
+        // On the first move of a turn the opponent was not in check before it, so check
+        // can be derived from this move's deltas alone.
+        DynamicMoveTurnRule turns = board.findRule(DynamicMoveTurnRule.class);
+        boolean firstMoveOfTurn = (turns == null) || turns.isFirstMoveOfTurn(board);
+        GameStatus status = firstMoveOfTurn
+                ? board.evaluateStatusAfterMove(opponent, ctx.deltas)
+                : board.evaluateStatus(opponent);
+        board.setGameStatus(status);
 
-        if (!opponentInCheck && board.hasNoLegalMoves(opponent)) {
-            throw new IllegalStateException("Stalemate!");
+        if (status == GameStatus.CHECKMATE) {
+            ctx.endGame(status, "Checkmate! " + movingPiece.getColor() + " wins.");
+        } else if (status == GameStatus.STALEMATE) {
+            ctx.endGame(status, "Stalemate!");
         }
     }
-}
\ No newline at end of file
+}
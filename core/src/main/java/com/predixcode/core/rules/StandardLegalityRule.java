@@ -3,6 +3,8 @@ package com.predixcode.core.rules;
 import java.util.Set;
 
 import com.predixcode.core.board.Board;
+import com.predixcode.core.board.MoveResult;
+import com.predixcode.core.board.SquareSet;
 import com.predixcode.core.board.colors.Color;
 import com.predixcode.core.board.pieces.Piece;
 
@@ -16,21 +18,34 @@ public class StandardLegalityRule extends Rule {
 
         Color active = board.getActiveColor();
         if (active != null && !movingPiece.getColor().equals(active)) {
-            throw new IllegalStateException("It is not " + movingPiece.getColor() + "'s turn");
+            ctx.reject(MoveResult.Rejection.INVALID_STATE, "It is not " + movingPiece.getColor() + "'s turn");
+            return;
+        }
+
+        String from = board.toAlg(fromXY[0], fromXY[1]);
+        String to   = board.toAlg(toXY[0], toXY[1]);
+        String toAlg = to.toLowerCase();
+
+        // Fast path: targets already computed for this position (e.g. by the UI
+        // selection) decide the move on their own, without regenerating anything.
+        SquareSet legal = board.getCachedLegalTargetSquares(movingPiece);
+        if (legal != null) {
+            if (!legal.contains(toXY)) {
+                ctx.reject("Destination " + to + " is not a legal target for " + from);
+            }
+            return;
         }
 
         // Would leave own king in check?
         if (board.wouldLeaveOwnKingInCheck(movingPiece, fromXY, toXY)) {
-            throw new IllegalStateException("Illegal move: would leave own king in check");
+            ctx.reject(MoveResult.Rejection.INVALID_STATE, "Illegal move: would leave own king in check");
+            return;
         }
 
         // Ensure destination is in piece's legal moves
-        String from = board.toAlg(fromXY[0], fromXY[1]);
-        String to   = board.toAlg(toXY[0], toXY[1]);
         Set<String> targets = movingPiece.getLegalMoves(board);
-        String toAlg = to.toLowerCase();
         if (!targets.contains(toAlg)) {
-            throw new IllegalArgumentException("Destination " + to + " is not a legal target for " + from);
+            ctx.reject("Destination " + to + " is not a legal target for " + from);
         }
     }
 }
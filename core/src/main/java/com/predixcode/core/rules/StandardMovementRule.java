@@ -51,7 +51,7 @@ public class StandardMovementRule extends Rule {
 
         // --- Handle castling rook move AFTER king is moved ---
         if (ctx.isCastling && movingPiece instanceof King king) {
-            board.handleCastling(king, fromXY, toXY);
+            board.handleCastling(king, fromXY, toXY, ctx);
         }
 
         // --- Handle standard capture if not handled by another rule (non-EP) ---
@@ -1,11 +1,16 @@
 package com.predixcode.core.ui;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import java.util.Set;
 
 import com.predixcode.core.board.Board;
 import com.predixcode.core.board.MoveResult;
+import com.predixcode.core.board.SquareSet;
+import com.predixcode.core.board.UndoRecord;
+import com.predixcode.core.events.GameEvent;
+import com.predixcode.core.events.GameEventPublisher;
+import com.predixcode.core.rules.DynamicMoveTurnRule;
 import com.predixcode.core.board.colors.Color;
 import com.predixcode.core.board.pieces.Piece;
 
@@ -15,34 +20,76 @@ import com.predixcode.core.board.pieces.Piece;
  *  - Selection state
  *  - Cached legal targets
  *  - Last move coordinates
- *  - Move history (e.g. "e2-e4")
+ *  - Move history (e.g. "e2-e4"), shared with view states without copying
+ *  - Undo/redo stacks of applied moves (takebacks via Board#unmake)
+ *  - A checkpointed GameTimeline for scrubbing through past plies
+ *  - A GameEventPublisher for push-style consumers (UIs, logs, spectators)
  *  - Last error message (for rejected moves)
+ *  - Optional background precomputation of legal targets
  * Exposes:
  *  - handleClick(x,y): processes user clicks and returns a ClickOutcome event
  *    (used e.g. by JavaFX for animation)
+ *  - undo() / redo(): take back or replay one ply
  *  - getViewState(): immutable BoardViewState snapshot for rendering
+ *  - boardAtPly(n) / viewStateAtPly(n): read-only views of earlier positions
  */
 public class BoardController {
 
     private final Board board;
 
     private int[] selectedSquare = null;              // [x,y]
-    private Set<String> cachedLegalTargets = Set.of();// current highlight set
+    private SquareSet cachedLegalTargets = SquareSet.empty(); // current highlight set (immutable)
     private int[] lastFromXY = null, lastToXY = null; // last move
-    private final List<String> moveHistory = new ArrayList<>();
+    private final MoveHistory moveHistory = new MoveHistory();
     private String lastError = null;
+    private LegalTargetPrecomputer precomputer = null;
+
+    /**
+     * An applied ply: its takeback record, coordinates (for last-move highlighting)
+     * and end-of-game message if it ended the game.
+     */
+    private record PlayedMove(UndoRecord undo, int[] from, int[] to, String endMessage) {}
+
+    private final Deque<PlayedMove> undoStack = new ArrayDeque<>();
+    private final Deque<PlayedMove> redoStack = new ArrayDeque<>();
+    private final GameTimeline timeline;
+    private final GameEventPublisher events = new GameEventPublisher();
 
     public BoardController(Board board) {
         if (board == null) {
             throw new IllegalArgumentException("Board cannot be null");
         }
         this.board = board;
+        this.timeline = new GameTimeline(board);
     }
 
     public Board getBoard() {
         return board;
     }
 
+    /**
+     * Publisher of typed game events. Subscribers get their own bounded
+     * buffer, so slow consumers never block move handling.
+     */
+    public GameEventPublisher getEvents() {
+        return events;
+    }
+
+    /**
+     * Enables or disables speculative precomputation: after each applied move,
+     * legal targets of the side to move are computed in the background so the
+     * next selection answers from the legal-move cache.
+     */
+    public void setSpeculativePrecompute(boolean enabled) {
+        if (enabled) {
+            if (precomputer == null) precomputer = new LegalTargetPrecomputer();
+            precomputer.schedule(board);
+        } else if (precomputer != null) {
+            precomputer.cancel();
+            precomputer = null;
+        }
+    }
+
     /**
      * Main UI entry point: user clicked on board square (x,y).
      * Returns a ClickOutcome describing what happened (for
@@ -66,8 +113,8 @@ public class BoardController {
             }
 
             selectedSquare = new int[] { x, y };
-            cachedLegalTargets = board.computeLegalTargets(p);
-            return ClickOutcome.selection(copyXY(selectedSquare), Set.copyOf(cachedLegalTargets));
+            cachedLegalTargets = legalTargets(p);
+            return ClickOutcome.selection(copyXY(selectedSquare), cachedLegalTargets);
         }
 
         // Second click = reselect or attempt move
@@ -82,30 +129,137 @@ public class BoardController {
         // Reselect same-color piece
         if (clicked != null && clicked.getColor().equals(selPiece.getColor())) {
             selectedSquare = new int[] { x, y };
-            cachedLegalTargets = board.computeLegalTargets(clicked);
-            return ClickOutcome.selection(copyXY(selectedSquare), Set.copyOf(cachedLegalTargets));
+            cachedLegalTargets = legalTargets(clicked);
+            return ClickOutcome.selection(copyXY(selectedSquare), cachedLegalTargets);
         }
 
         // Attempt to apply move
         String fromAlg = board.toAlg(selectedSquare[0], selectedSquare[1]);
         String toAlg   = board.toAlg(x, y);
 
+        MoveResult result;
         try {
-            MoveResult result = board.applyTurnWithResult(fromAlg, toAlg);
-
-            lastFromXY = result.getFrom();
-            lastToXY   = result.getTo();
-
-            recordMoveInHistory(lastFromXY, lastToXY);
-
-            clearSelection();
-
-            return ClickOutcome.moveApplied(result);
+            result = board.tryApplyTurn(fromAlg, toAlg);
         } catch (Exception ex) {
+            // Rule bug or inconsistent position: surface it like a rejection.
             clearSelection();
             lastError = ex.getMessage();
             return ClickOutcome.moveRejected(lastError);
         }
+
+        clearSelection();
+        if (!result.isApplied()) {
+            lastError = result.getMessage();
+            return ClickOutcome.moveRejected(lastError);
+        }
+
+        lastFromXY = result.getFrom();
+        lastToXY   = result.getTo();
+
+        recordMoveInHistory(lastFromXY, lastToXY);
+        undoStack.push(new PlayedMove(result.getUndoRecord(), copyXY(lastFromXY), copyXY(lastToXY),
+                                      result.isGameOver() ? result.getMessage() : null));
+        redoStack.clear();
+        timeline.append(board, result.getUndoRecord(), lastFromXY, lastToXY);
+
+        if (precomputer != null && !result.isGameOver()) {
+            precomputer.schedule(board);
+        }
+
+        // Game-ending moves are applied; keep the end-of-game message visible.
+        if (result.isGameOver()) {
+            lastError = result.getMessage();
+        }
+
+        publishMove(result, selPiece.getColor());
+
+        return ClickOutcome.moveApplied(result);
+    }
+
+    /**
+     * Restores a stored game: applies plies ("e2-e4") that are known to be legal
+     * via {@link Board#replayTrusted}, recording history, undo and timeline as
+     * if they had been clicked. Stops at the first inconsistent ply and returns
+     * its ILLEGAL result (the plies before it stay applied).
+     */
+    public MoveResult replay(List<String> plies) {
+        clearSelection();
+        redoStack.clear();
+        MoveResult result = board.replayTrusted(plies, r -> {
+            recordMoveInHistory(r.getFrom(), r.getTo());
+            undoStack.push(new PlayedMove(r.getUndoRecord(), r.getFrom(), r.getTo(),
+                                          r.isGameOver() ? r.getMessage() : null));
+            timeline.append(board, r.getUndoRecord(), r.getFrom(), r.getTo());
+        });
+
+        PlayedMove last = undoStack.peek();
+        lastFromXY = (last != null) ? copyXY(last.from()) : null;
+        lastToXY   = (last != null) ? copyXY(last.to()) : null;
+        lastError = result.isApplied() && !result.isGameOver() ? null : result.getMessage();
+
+        if (precomputer != null && !board.getGameStatus().isOver()) {
+            precomputer.schedule(board);
+        }
+        publishHistoryJump();
+        return result;
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Takes back the last ply (pieces, clocks, castling / en passant state,
+     * turn budget and game status). Returns false if there is nothing to undo.
+     * After calling this, re-render from getViewState().
+     */
+    public boolean undo() {
+        if (undoStack.isEmpty()) return false;
+
+        PlayedMove move = undoStack.pop();
+        board.unmake(move.undo());
+        moveHistory.removeLast();
+        timeline.truncate(moveHistory.size());
+        redoStack.push(move);
+
+        afterHistoryJump();
+        publishHistoryJump();
+        return true;
+    }
+
+    /**
+     * Replays the last undone ply. Returns false if there is nothing to redo.
+     */
+    public boolean redo() {
+        if (redoStack.isEmpty()) return false;
+
+        PlayedMove move = redoStack.pop();
+        board.remake(move.undo());
+        recordMoveInHistory(move.from(), move.to());
+        timeline.append(board, move.undo(), move.from(), move.to());
+        undoStack.push(move);
+
+        afterHistoryJump();
+        lastError = move.endMessage();
+        publishHistoryJump();
+        return true;
+    }
+
+    private void afterHistoryJump() {
+        clearSelection();
+        lastError = null;
+
+        PlayedMove last = undoStack.peek();
+        lastFromXY = (last != null) ? copyXY(last.from()) : null;
+        lastToXY   = (last != null) ? copyXY(last.to()) : null;
+
+        if (precomputer != null && !board.getGameStatus().isOver()) {
+            precomputer.schedule(board);
+        }
     }
 
     /**
@@ -115,17 +269,82 @@ public class BoardController {
     public BoardViewState getViewState() {
         return new BoardViewState(
             copyXY(selectedSquare),
-            Set.copyOf(cachedLegalTargets),
+            cachedLegalTargets,
             copyXY(lastFromXY),
             copyXY(lastToXY),
-            List.copyOf(moveHistory),
+            moveHistory.snapshot(),
             lastError
         );
     }
 
+    /**
+     * Detached, read-only board after {@code ply} plies (0 = start position),
+     * rebuilt from the nearest timeline checkpoint; the live game is untouched.
+     */
+    public Board boardAtPly(int ply) {
+        return timeline.boardAtPly(ply);
+    }
+
+    /**
+     * View state for scrubbing: history up to {@code ply}, that ply's move
+     * highlighted, no selection. Render it together with {@link #boardAtPly(int)}.
+     */
+    public BoardViewState viewStateAtPly(int ply) {
+        if (ply < 0 || ply > moveHistory.size()) {
+            throw new IndexOutOfBoundsException("Ply " + ply + " of " + moveHistory.size());
+        }
+        return new BoardViewState(
+            null,
+            SquareSet.empty(),
+            timeline.getFrom(ply),
+            timeline.getTo(ply),
+            moveHistory.snapshot().subList(0, ply),
+            null
+        );
+    }
+
     public void clearSelection() {
         selectedSquare = null;
-        cachedLegalTargets = Set.of();
+        cachedLegalTargets = SquareSet.empty();
+    }
+
+    private void publishMove(MoveResult result, Color mover) {
+        if (!events.hasSubscribers()) return;
+
+        int ply = moveHistory.size();
+        int[] from = result.getFrom();
+        int[] to = result.getTo();
+        events.publish(new GameEvent.MoveApplied(ply, from[0], from[1], to[0], to[1], result.getStatus(),
+                                                 GameEvent.PieceChange.of(result.getDeltas())));
+        if (result.getCaptured() != null) {
+            // As captured: a Bureaucrat may have changed color since.
+            String piece = mover.opposite().formatSymbol(result.getCaptured().getSymbol().toLowerCase());
+            events.publish(new GameEvent.Capture(ply, piece, to[0], to[1]));
+        }
+        if (board.isInCheck(mover.opposite())) {
+            events.publish(new GameEvent.Check(ply, mover.opposite()));
+        }
+        if (result.isGameOver()) {
+            events.publish(new GameEvent.GameOver(ply, board.getGameStatus(), result.getMessage()));
+        } else if (board.getActiveColor() != null && !board.getActiveColor().equals(mover)) {
+            events.publish(new GameEvent.TurnChanged(ply, board.getActiveColor(), movesLeft()));
+        }
+    }
+
+    private void publishHistoryJump() {
+        if (events.hasSubscribers()) {
+            events.publish(new GameEvent.HistoryJump(moveHistory.size(), board.getActiveColor()));
+        }
+    }
+
+    /** Legal targets for a selection, shared with the background pass when there is one. */
+    private SquareSet legalTargets(Piece p) {
+        return (precomputer != null) ? precomputer.legalTargets(board, p) : board.computeLegalTargetSquares(p);
+    }
+
+    private int movesLeft() {
+        DynamicMoveTurnRule turns = board.findRule(DynamicMoveTurnRule.class);
+        return (turns != null) ? turns.getMovesLeftForActive() : 1;
     }
 
     private void recordMoveInHistory(int[] from, int[] to) {
@@ -3,17 +3,21 @@ package com.predixcode.core.ui;
 import java.util.List;
 import java.util.Set;
 
+import com.predixcode.core.board.SquareSet;
+
 /**
  * Immutable snapshot of UI-relevant board state.
  * Both desktop and Android render purely from this.
  * Coordinates are board-space [x,y] (0-based, origin at top-left),
- * legal targets are in algebraic notation ("e4", "a1", ...),
+ * legal targets are a {@link SquareSet} (with an algebraic view, "e4", "a1", ...),
  * moveHistory is a simple list of ply strings like "e2-e4".
+ * The history list is a shared immutable view, so creating a view state
+ * does not copy it; use {@link #getMovesSince(int)} to render only new plies.
  */
 public final class BoardViewState {
 
     private final int[] selectedSquare;   // [x,y] or null
-    private final Set<String> legalTargets;
+    private final SquareSet legalTargets;
     private final int[] lastFrom;         // [x,y] or null
     private final int[] lastTo;           // [x,y] or null
     private final List<String> moveHistory;
@@ -21,14 +25,14 @@ public final class BoardViewState {
 
     public BoardViewState(
             int[] selectedSquare,
-            Set<String> legalTargets,
+            SquareSet legalTargets,
             int[] lastFrom,
             int[] lastTo,
             List<String> moveHistory,
             String lastError
     ) {
         this.selectedSquare = selectedSquare;
-        this.legalTargets = legalTargets;
+        this.legalTargets = (legalTargets != null) ? legalTargets : SquareSet.empty();
         this.lastFrom = lastFrom;
         this.lastTo = lastTo;
         this.moveHistory = moveHistory;
@@ -42,12 +46,19 @@ public final class BoardViewState {
         return selectedSquare;
     }
 
+    /**
+     * Legal target squares as a bitset; scan it with {@link SquareSet#nextSquare(int)}.
+     */
+    public SquareSet getLegalTargetSquares() {
+        return legalTargets;
+    }
+
     /**
      * Legal target squares in algebraic notation (e.g. "e4").
-     * Set is immutable.
+     * Set is an immutable view of {@link #getLegalTargetSquares()}.
      */
     public Set<String> getLegalTargets() {
-        return legalTargets;
+        return legalTargets.asAlgebraic();
     }
 
     /**
@@ -72,6 +83,22 @@ public final class BoardViewState {
         return moveHistory;
     }
 
+    /**
+     * Number of plies played so far.
+     */
+    public int getMoveCount() {
+        return moveHistory.size();
+    }
+
+    /**
+     * Plies from index {@code plyCount} on (a view, not a copy): a UI that has
+     * already rendered {@code plyCount} plies only needs these.
+     */
+    public List<String> getMovesSince(int plyCount) {
+        int from = Math.max(0, Math.min(plyCount, moveHistory.size()));
+        return moveHistory.subList(from, moveHistory.size());
+    }
+
     /**
      * Last error message (e.g. from a rejected move), or null.
      */
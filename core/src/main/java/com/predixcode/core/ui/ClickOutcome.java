@@ -3,6 +3,7 @@ package com.predixcode.core.ui;
 import java.util.Set;
 
 import com.predixcode.core.board.MoveResult;
+import com.predixcode.core.board.SquareSet;
 
 /**
  * UI-level outcome of a user click.
@@ -18,38 +19,40 @@ public final class ClickOutcome {
 
     public final Type type;
     public final int[] selected;       // selection square for highlighting (or null)
-    public final Set<String> legalTargets;
+    public final SquareSet legalTargetSquares; // bitset for highlighting
+    public final Set<String> legalTargets;      // algebraic view of legalTargetSquares
     public final MoveResult moveResult; // non-null only for MOVE_APPLIED
     public final String error;         // rejection reason (for MOVE_REJECTED)
 
     private ClickOutcome(
             Type type,
             int[] selected,
-            Set<String> legalTargets,
+            SquareSet legalTargetSquares,
             MoveResult moveResult,
             String error
     ) {
         this.type = type;
         this.selected = selected;
-        this.legalTargets = legalTargets;
+        this.legalTargetSquares = legalTargetSquares;
+        this.legalTargets = legalTargetSquares.asAlgebraic();
         this.moveResult = moveResult;
         this.error = error;
     }
 
     public static ClickOutcome noop() {
-        return new ClickOutcome(Type.NOOP, null, Set.of(), null, null);
+        return new ClickOutcome(Type.NOOP, null, SquareSet.empty(), null, null);
     }
 
-    public static ClickOutcome selection(int[] selected, Set<String> legalTargets) {
+    public static ClickOutcome selection(int[] selected, SquareSet legalTargets) {
         return new ClickOutcome(Type.SELECT, selected, legalTargets, null, null);
     }
 
     public static ClickOutcome moveApplied(MoveResult result) {
         if (result == null) throw new IllegalArgumentException("MoveResult cannot be null");
-        return new ClickOutcome(Type.MOVE_APPLIED, null, Set.of(), result, null);
+        return new ClickOutcome(Type.MOVE_APPLIED, null, SquareSet.empty(), result, null);
     }
 
     public static ClickOutcome moveRejected(String error) {
-        return new ClickOutcome(Type.MOVE_REJECTED, null, Set.of(), null, error);
+        return new ClickOutcome(Type.MOVE_REJECTED, null, SquareSet.empty(), null, error);
     }
 }
\ No newline at end of file
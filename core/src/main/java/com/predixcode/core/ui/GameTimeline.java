@@ -0,0 +1,116 @@
+package com.predixcode.core.ui;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.UndoRecord;
+import com.predixcode.core.board.pieces.Piece;
+
+/**
+ * Scrubbable record of a game: a full board checkpoint every
+ * {@link #getCheckpointInterval()} plies plus the compact undo record of
+ * every ply. {@link #boardAtPly(int)} restores the nearest checkpoint at or
+ * before the ply and replays at most interval - 1 moves on a detached copy,
+ * so the live board is never touched.
+ */
+public final class GameTimeline {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 16;
+
+    /** Detached position plus the live pieces its pieces were copied from (same order). */
+    private record Checkpoint(Board board, Piece[] originals) {}
+
+    /** One played ply. */
+    private record Ply(UndoRecord undo, int[] from, int[] to) {}
+
+    private final int interval;
+    private final List<Checkpoint> checkpoints = new ArrayList<>(); // index i = ply i * interval
+    private final List<Ply> plies = new ArrayList<>();
+
+    public GameTimeline(Board start) {
+        this(start, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    public GameTimeline(Board start, int checkpointInterval) {
+        this.interval = Math.max(1, checkpointInterval);
+        checkpoints.add(checkpoint(start));
+    }
+
+    public int getCheckpointInterval() {
+        return interval;
+    }
+
+    /** Number of plies recorded. */
+    public int size() {
+        return plies.size();
+    }
+
+    /**
+     * Records a ply just applied to {@code live}; checkpoints the position
+     * when the ply count reaches a multiple of the interval.
+     */
+    public void append(Board live, UndoRecord undo, int[] from, int[] to) {
+        plies.add(new Ply(undo, copyXY(from), copyXY(to)));
+        if (plies.size() % interval == 0) {
+            checkpoints.add(checkpoint(live));
+        }
+    }
+
+    /**
+     * Drops every ply after {@code plyCount} (after an undo, or before a new line
+     * is played from an earlier position).
+     */
+    public void truncate(int plyCount) {
+        int keep = Math.max(0, Math.min(plyCount, plies.size()));
+        plies.subList(keep, plies.size()).clear();
+        int keepCheckpoints = keep / interval + 1;
+        if (checkpoints.size() > keepCheckpoints) {
+            checkpoints.subList(keepCheckpoints, checkpoints.size()).clear();
+        }
+    }
+
+    /**
+     * Detached board showing the position after {@code ply} plies (0 = start).
+     * The copy has no rules; treat it as read-only.
+     */
+    public Board boardAtPly(int ply) {
+        if (ply < 0 || ply > plies.size()) {
+            throw new IndexOutOfBoundsException("Ply " + ply + " of " + plies.size());
+        }
+        Checkpoint cp = checkpoints.get(ply / interval);
+        Board view = cp.board().snapshot();
+
+        Map<Piece, Piece> pieceMap = new IdentityHashMap<>();
+        List<Piece> copies = view.getPieces();
+        for (int i = 0; i < cp.originals().length; i++) {
+            pieceMap.put(cp.originals()[i], copies.get(i));
+        }
+
+        for (int i = (ply / interval) * interval; i < ply; i++) {
+            view.remake(plies.get(i).undo(), pieceMap);
+        }
+        return view;
+    }
+
+    /** From-square of ply {@code ply} (1-based: the ply that led to that position), or null for 0. */
+    public int[] getFrom(int ply) {
+        return (ply > 0 && ply <= plies.size()) ? copyXY(plies.get(ply - 1).from()) : null;
+    }
+
+    /** To-square of ply {@code ply} (1-based), or null for 0. */
+    public int[] getTo(int ply) {
+        return (ply > 0 && ply <= plies.size()) ? copyXY(plies.get(ply - 1).to()) : null;
+    }
+
+    private static Checkpoint checkpoint(Board live) {
+        return new Checkpoint(live.snapshot(), live.getPieces().toArray(new Piece[0]));
+    }
+
+    private static int[] copyXY(int[] src) {
+        if (src == null) return null;
+        return new int[] { src[0], src[1] };
+    }
+}
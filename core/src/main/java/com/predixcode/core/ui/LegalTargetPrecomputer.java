@@ -0,0 +1,132 @@
+package com.predixcode.core.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.SquareSet;
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.board.pieces.Piece;
+
+/**
+ * Speculatively computes legal targets for every piece of the side to move
+ * on a background executor, right after a move is applied.
+ * Works on a detached {@link Board#snapshot()} that shares the live board's
+ * legal-move cache, so a later selection on the live board is a cache hit.
+ * Selections go through {@link #legalTargets}: each piece is computed exactly
+ * once, either by the pass or by the selecting thread, which only waits if
+ * the pass is computing that very piece. A piece the pass has not reached
+ * yet is claimed and computed directly (the pass then skips it).
+ */
+public final class LegalTargetPrecomputer {
+
+    /** Shared daemon worker, created on first use. */
+    private static final class DefaultExecutor {
+        static final ExecutorService INSTANCE = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "legal-target-precompute");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static final int PENDING = 0, RUNNING = 1, CLAIMED = 2;
+
+    /** One piece of a pass: who computes it, and the pass's result. */
+    private static final class Slot {
+        final AtomicInteger state = new AtomicInteger(PENDING);
+        final CompletableFuture<SquareSet> result = new CompletableFuture<>();
+    }
+
+    /** The pass for one position of one board; slots indexed by square. */
+    private record Pass(Board board, long version, int width, Slot[] slots) {
+        Slot slotAt(int x, int y) {
+            int square = y * width + x;
+            return (x >= 0 && x < width && square >= 0 && square < slots.length) ? slots[square] : null;
+        }
+    }
+
+    private final Executor executor;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Pass current;
+
+    public LegalTargetPrecomputer() {
+        this(DefaultExecutor.INSTANCE);
+    }
+
+    public LegalTargetPrecomputer(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Starts precomputing for the current position of {@code board}.
+     * Must be called on the thread that owns the board; any pass still
+     * running for an earlier position is abandoned.
+     */
+    public void schedule(Board board) {
+        final long gen = generation.incrementAndGet();
+        final Board snapshot = board.snapshot();
+        final Color side = snapshot.getActiveColor();
+
+        final int width = snapshot.getWidth();
+        final Pass pass = new Pass(board, board.getVersion(), width, new Slot[width * snapshot.getHeight()]);
+        final List<Piece> todo = new ArrayList<>();
+        for (Piece p : snapshot.getPieces()) {
+            if (side == null || side.equals(p.getColor())) {
+                todo.add(p);
+                pass.slots[p.posY * width + p.posX] = new Slot();
+            }
+        }
+        current = pass;
+
+        executor.execute(() -> {
+            for (Piece p : todo) {
+                if (generation.get() != gen) return; // a newer position superseded us
+                Slot slot = pass.slotAt(p.posX, p.posY);
+                if (!slot.state.compareAndSet(PENDING, RUNNING)) continue; // claimed by a selection
+                try {
+                    slot.result.complete(snapshot.computeLegalTargetSquares(p));
+                } catch (RuntimeException ex) {
+                    slot.result.completeExceptionally(ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * Legal targets of {@code piece} on the live {@code board}, for a
+     * selection. Must be called on the thread that owns the board. Waits
+     * only if the pass is computing this piece right now; otherwise the
+     * result is taken from the cache or computed here.
+     */
+    public SquareSet legalTargets(Board board, Piece piece) {
+        Pass pass = current;
+        if (pass != null && pass.board() == board && pass.version() == board.getVersion()) {
+            Slot slot = pass.slotAt(piece.posX, piece.posY);
+            if (slot != null && !slot.state.compareAndSet(PENDING, CLAIMED)
+                    && slot.state.get() == RUNNING) {
+                try {
+                    return slot.result.join();
+                } catch (CompletionException ex) {
+                    // Fall through: recompute here so the failure surfaces on this thread.
+                }
+            }
+        }
+        return board.computeLegalTargetSquares(piece);
+    }
+
+    /** Abandons any pass in progress. */
+    public void cancel() {
+        generation.incrementAndGet();
+        current = null;
+    }
+}
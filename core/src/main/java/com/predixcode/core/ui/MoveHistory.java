@@ -0,0 +1,109 @@
+package com.predixcode.core.ui;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Log of ply strings ("e2-e4") with structurally shared snapshots.
+ * Plies live in fixed-size chunks, so {@link #snapshot()} is O(1): it returns
+ * an immutable view over the same chunks instead of copying the list.
+ * Slots a snapshot can still see are never rewritten: after {@link #removeLast()}
+ * the next {@link #add(String)} copies the affected chunk first (copy-on-write).
+ */
+public final class MoveHistory {
+
+    private static final int CHUNK_BITS = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;   // 32 plies per chunk
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private String[][] chunks = new String[4][];
+    private int size;
+
+    private int exposed;          // slots below this may be visible to a snapshot
+    private int ownedChunk = -1;  // chunk copied since the last snapshot (safe to write)
+
+    public int size() {
+        return size;
+    }
+
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Ply " + index + " of " + size);
+        }
+        return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    public void add(String ply) {
+        int chunk = size >>> CHUNK_BITS;
+        if (size < exposed && chunk != ownedChunk) {
+            detach(chunk);
+        }
+        if (chunk == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new String[CHUNK_SIZE];
+        }
+        chunks[chunk][size & CHUNK_MASK] = ply;
+        size++;
+    }
+
+    /**
+     * Removes and returns the last ply (takeback).
+     */
+    public String removeLast() {
+        if (size == 0) throw new IndexOutOfBoundsException("History is empty");
+        String ply = get(size - 1);
+        size--;
+        return ply;
+    }
+
+    /**
+     * Immutable view of the first {@link #size()} plies, sharing storage with this log.
+     */
+    public List<String> snapshot() {
+        exposed = Math.max(exposed, size);
+        ownedChunk = -1;
+        return new View(chunks, size);
+    }
+
+    /**
+     * Gives this log private copies of the chunk about to be written and of the
+     * chunk table; later chunks start fresh, so they need no further copying.
+     */
+    private void detach(int chunk) {
+        String[][] copy = new String[chunks.length][];
+        System.arraycopy(chunks, 0, copy, 0, Math.min(chunk, chunks.length));
+        if (chunk < chunks.length && chunks[chunk] != null) {
+            copy[chunk] = chunks[chunk].clone();
+        }
+        chunks = copy;
+        ownedChunk = chunk;
+        exposed = Math.min(exposed, (chunk + 1) << CHUNK_BITS);
+    }
+
+    private static final class View extends AbstractList<String> implements RandomAccess {
+        private final String[][] chunks;
+        private final int size;
+
+        View(String[][] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Ply " + index + " of " + size);
+            }
+            return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
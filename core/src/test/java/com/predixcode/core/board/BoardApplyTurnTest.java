@@ -0,0 +1,53 @@
+package com.predixcode.core.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.GameConfig;
+import com.predixcode.core.board.pieces.Piece;
+import com.predixcode.core.rules.RuleBuilder;
+
+class BoardApplyTurnTest {
+
+    private static Board started(String fen) {
+        Board board = Board.fromFen(fen);
+        board.setRules(RuleBuilder.buildRules(new GameConfig(null, false, 1, 1)));
+        board.startGame();
+        return board;
+    }
+
+    @Test
+    void rejectionsReportTheirKind() {
+        Board board = started("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+        assertEquals(MoveResult.Rejection.INVALID_MOVE, board.tryApplyTurn("e2", "e5").getRejection());
+        assertEquals(MoveResult.Rejection.INVALID_MOVE, board.tryApplyTurn("e3", "e4").getRejection());
+        assertEquals(MoveResult.Rejection.INVALID_STATE, board.tryApplyTurn("e7", "e5").getRejection());
+        assertEquals(null, board.tryApplyTurn("e2", "e4").getRejection());
+    }
+
+    @Test
+    void applyTurnWithResultKeepsTheExceptionTypes() {
+        Board board = started("4k3/8/8/8/8/8/4r3/4K3 w - - 0 1");
+        assertThrows(IllegalArgumentException.class, () -> board.applyTurnWithResult("e1", "c3"));
+        assertThrows(IllegalArgumentException.class, () -> board.applyTurnWithResult("a1", "a2"));
+        assertThrows(IllegalStateException.class, () -> board.applyTurnWithResult("e8", "d8"));
+        // f2 is on the rook's rank
+        assertThrows(IllegalStateException.class, () -> board.applyTurnWithResult("e1", "f2"));
+        assertEquals(MoveResult.Status.APPLIED, board.applyTurnWithResult("e1", "e2").getStatus());
+    }
+
+    @Test
+    void cachedTargetsDecideTheMoveAlone() {
+        Board board = started("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+        Piece pawn = board.getPieceAt(4, 6);
+        // A cached entry is trusted as is: nothing is regenerated to second-guess it.
+        board.getLegalMoveCache().put(board.getPositionHash(), board.squareIndex(4, 6), SquareSet.empty());
+
+        MoveResult result = board.tryApplyTurn("e2", "e4");
+        assertEquals(MoveResult.Status.ILLEGAL, result.getStatus());
+        assertEquals("Destination e4 is not a legal target for e2", result.getMessage());
+        assertEquals(pawn, board.getPieceAt(4, 6));
+    }
+}
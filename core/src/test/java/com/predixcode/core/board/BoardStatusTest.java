@@ -0,0 +1,51 @@
+package com.predixcode.core.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.GameConfig;
+import com.predixcode.core.board.colors.Color;
+import com.predixcode.core.rules.RuleBuilder;
+
+class BoardStatusTest {
+
+    private static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    private static Board started(String fen) {
+        Board board = Board.fromFen(fen);
+        board.setRules(RuleBuilder.buildRules(new GameConfig(null, false, 1, 1)));
+        board.startGame();
+        return board;
+    }
+
+    @Test
+    void statusFromEndConditionsIsMemoisedAfterAMove() {
+        Board board = started(START);
+        assertTrue(board.tryApplyTurn("e2", "e4").isApplied());
+
+        // Evaluated by the end-condition rule, still valid after the turn hooks
+        assertTrue(board.isStatusMemoised(Color.BLACK));
+        assertFalse(board.isInCheck(Color.BLACK));
+        assertEquals(GameStatus.ONGOING, board.evaluateStatus(Color.BLACK));
+    }
+
+    @Test
+    void memoisedCheckIsReportedAfterAMove() {
+        Board board = started("4k3/8/8/8/8/8/8/R3K3 w - - 0 1");
+        assertTrue(board.tryApplyTurn("a1", "a8").isApplied());
+
+        assertTrue(board.isStatusMemoised(Color.BLACK));
+        assertTrue(board.isInCheck(Color.BLACK));
+    }
+
+    @Test
+    void pieceChangesInvalidateTheMemo() {
+        Board board = started(START);
+        board.tryApplyTurn("e2", "e4");
+        board.clearEnPassant();
+        assertFalse(board.isStatusMemoised(Color.BLACK));
+    }
+}
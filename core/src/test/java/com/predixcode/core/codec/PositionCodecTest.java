@@ -0,0 +1,79 @@
+package com.predixcode.core.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.fen.ExtendedFen;
+
+class PositionCodecTest {
+
+    private static final String[] FENS = {
+        "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+        "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+        "rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2",
+        "brnbqkbnrn/pppppppppp/10/10/10/10/10/10/PPPPPPPPPP/BRNBQKBNRN b KQ - 3 7",
+        "4k3/8/8/8/8/8/8/4K3 w - - 0 1 x:mpt=2/1,left=1,bur=1",
+    };
+
+    @Test
+    void recordsRoundTrip() {
+        for (String fen : FENS) {
+            Board board = ExtendedFen.parse(fen);
+            Board decoded = PositionCodec.decode(ByteBuffer.wrap(PositionCodec.encode(board)));
+            assertEquals(ExtendedFen.toExtendedFen(board), ExtendedFen.toExtendedFen(decoded), fen);
+        }
+    }
+
+    @Test
+    void readerWalksConsecutiveRecords() {
+        ByteBuffer buf = ByteBuffer.allocate(4096);
+        for (String fen : FENS) PositionCodec.encode(ExtendedFen.parse(fen), buf);
+        buf.flip();
+
+        PositionRecordReader reader = new PositionRecordReader(buf);
+        for (String fen : FENS) {
+            assertTrue(reader.next());
+            assertEquals(ExtendedFen.toExtendedFen(ExtendedFen.parse(fen)),
+                         ExtendedFen.toExtendedFen(reader.toBoard()));
+        }
+        assertFalse(reader.next());
+    }
+
+    @Test
+    void fixedRecordsHaveTheDocumentedSize() {
+        assertEquals(PositionCodec.SIZE_8X8, PositionCodec.encode(ExtendedFen.parse(FENS[0])).length);
+    }
+
+    @Test
+    void truncatedRecordsAreRejected() {
+        for (String fen : FENS) {
+            byte[] record = PositionCodec.encode(ExtendedFen.parse(fen));
+            for (int cut = 1; cut < record.length; cut++) {
+                ByteBuffer buf = ByteBuffer.wrap(Arrays.copyOf(record, cut));
+                assertThrows(IllegalArgumentException.class, () -> new PositionRecordReader(buf).next(),
+                             fen + " cut at " + cut);
+            }
+        }
+    }
+
+    @Test
+    void corruptLengthIsRejected() {
+        byte[] record = PositionCodec.encode(ExtendedFen.parse(FENS[3]));
+        byte[] tooLong = record.clone();
+        tooLong[1] = (byte) 0x7F;
+        assertThrows(IllegalArgumentException.class, () -> new PositionRecordReader(ByteBuffer.wrap(tooLong)).next());
+
+        byte[] tooShort = record.clone();
+        tooShort[1] = 0;
+        tooShort[2] = 4;
+        assertThrows(IllegalArgumentException.class, () -> new PositionRecordReader(ByteBuffer.wrap(tooShort)).next());
+    }
+}
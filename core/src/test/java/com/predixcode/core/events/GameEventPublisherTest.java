@@ -0,0 +1,105 @@
+package com.predixcode.core.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.board.MoveResult;
+import com.predixcode.core.board.colors.Color;
+
+class GameEventPublisherTest {
+
+    /** Records events; requests {@code initialDemand} in onSubscribe. */
+    private static class Recorder implements Flow.Subscriber<GameEvent> {
+        final List<GameEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final long initialDemand;
+        Flow.Subscription subscription;
+
+        Recorder(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override public void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+            if (initialDemand > 0) s.request(initialDemand);
+        }
+        @Override public void onNext(GameEvent e) { events.add(e); }
+        @Override public void onError(Throwable t) { completed.countDown(); }
+        @Override public void onComplete() { completed.countDown(); }
+    }
+
+    private static GameEvent turn(int ply) {
+        return new GameEvent.TurnChanged(ply, (ply % 2 == 0) ? Color.WHITE : Color.BLACK, 1);
+    }
+
+    private static GameEvent move(int ply) {
+        return new GameEvent.MoveApplied(ply, 4, 6, 4, 4, MoveResult.Status.APPLIED, List.of());
+    }
+
+    @Test
+    void onNextNeverOverlapsOnSubscribe() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            GameEventPublisher publisher = new GameEventPublisher(pool);
+            List<String> calls = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(1);
+            publisher.subscribe(new Recorder(0) {
+                @Override public void onSubscribe(Flow.Subscription s) {
+                    calls.add("subscribe-start");
+                    s.request(Long.MAX_VALUE);
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    calls.add("subscribe-end");
+                }
+                @Override public void onNext(GameEvent e) { calls.add("next"); }
+                @Override public void onComplete() { done.countDown(); }
+            });
+            for (int i = 1; i <= 5; i++) publisher.publish(turn(i));
+            publisher.close();
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("subscribe-start", "subscribe-end", "next", "next", "next", "next", "next"), calls);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void coalesceReplacesInPlace() {
+        GameEventPublisher publisher = new GameEventPublisher(Runnable::run);
+        Recorder recorder = new Recorder(0);
+        publisher.subscribe(recorder, 2, OverflowPolicy.COALESCE);
+
+        publisher.publish(turn(1));
+        publisher.publish(move(2));
+        publisher.publish(turn(2));   // full: replaces turn(1) in its slot
+        recorder.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(turn(2), move(2)), recorder.events);
+    }
+
+    @Test
+    void dropOldestKeepsTheLatestEvents() {
+        GameEventPublisher publisher = new GameEventPublisher(Runnable::run);
+        Recorder recorder = new Recorder(0);
+        publisher.subscribe(recorder, 2, OverflowPolicy.DROP_OLDEST);
+
+        for (int i = 1; i <= 4; i++) publisher.publish(turn(i));
+        recorder.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of(turn(3), turn(4)), recorder.events);
+    }
+}
@@ -0,0 +1,41 @@
+package com.predixcode.core.fen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.colors.Color;
+
+class FenParserTest {
+
+    @Test
+    void readsSideToMove() {
+        assertEquals(Color.WHITE, FenParser.parse("4k3/8/8/8/8/8/8/4K3 w - - 0 1").getActiveColor());
+        assertEquals(Color.BLACK, FenParser.parse("4k3/8/8/8/8/8/8/4K3 b - - 0 1").getActiveColor());
+    }
+
+    @Test
+    void rejectsOtherSideToMoveValues() {
+        for (String side : new String[] { "x", "-", "white", "bw" }) {
+            assertThrows(IllegalArgumentException.class,
+                         () -> FenParser.parse("4k3/8/8/8/8/8/8/4K3 " + side + " - - 0 1"));
+        }
+    }
+
+    @Test
+    void rejectsMalformedPlacement() {
+        assertThrows(IllegalArgumentException.class, () -> FenParser.parse("4k3/7/8/8/8/8/8/4K3 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> FenParser.parse("4k3/8/8/8/8/8/8/4X3 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> FenParser.parse("4k3/8/8/8/8/8/8/4K3 w - -"));
+    }
+
+    @Test
+    void readsMultiDigitRunsOnWideBoards() {
+        Board board = FenParser.parse("r8r/10/10/10/10/10/10/R8R w - - 0 1");
+        assertEquals(10, board.getWidth());
+        assertEquals(8, board.getHeight());
+        assertEquals(4, board.getPieces().size());
+    }
+}
@@ -0,0 +1,58 @@
+package com.predixcode.core.fen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.board.Board;
+
+class FenWriterTest {
+
+    private static final String[] FENS = {
+        "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+        "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+        "rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2",
+        "8/2p5/3p4/KP5r/1R3p1k/8/4P2P/8 b - - 12 40",
+        "brnbqkbnrn/pppppppppp/10/10/10/10/10/10/PPPPPPPPPP/BRNBQKBNRN b KQ - 3 7",
+        "r1k7r1/12/12/12/12/12/12/R1K7R1 w Kq - 0 1",
+    };
+
+    @Test
+    void plainFensRoundTrip() {
+        for (String fen : FENS) {
+            Board board = FenParser.parse(fen);
+            assertEquals(fen, FenWriter.toFen(board));
+            assertEquals(fen, board.getFen());
+            assertEquals(fen, FenWriter.toFen(FenParser.parse(FenWriter.toFen(board))));
+        }
+    }
+
+    @Test
+    void bufferOutputMatchesStringOutput() {
+        ByteBuffer buf = ByteBuffer.allocate(256);
+        for (String fen : FENS) {
+            buf.clear();
+            FenWriter.write(FenParser.parse(fen), buf).flip();
+            assertEquals(fen, StandardCharsets.US_ASCII.decode(buf).toString());
+        }
+    }
+
+    @Test
+    void extendedFensRoundTrip() {
+        String standard = FENS[0];
+        assertFalse(ExtendedFen.hasExtension(ExtendedFen.toExtendedFen(ExtendedFen.parse(standard))));
+        assertEquals(standard, ExtendedFen.toExtendedFen(ExtendedFen.parse(standard)));
+
+        String variant = "4k3/8/8/8/8/8/8/4K3 w - - 0 1 x:mpt=2/1,left=1,bur=1";
+        Board board = ExtendedFen.parse(variant);
+        assertTrue(ExtendedFen.hasExtension(variant));
+        assertEquals(new ExtendedFen.Variant(2, 1, 1, true), ExtendedFen.variantOf(board));
+        assertEquals(variant, ExtendedFen.toExtendedFen(board));
+        assertEquals(variant, ExtendedFen.toExtendedFen(ExtendedFen.parse(ExtendedFen.toExtendedFen(board))));
+    }
+}
@@ -0,0 +1,35 @@
+package com.predixcode.core.fen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class PositionBuilderTest {
+
+    private static final String[] FENS = {
+        "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+        "rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w Kq e6 0 2",
+        "brnbqkbnrn/pppppppppp/10/10/10/10/10/10/PPPPPPPPPP/BRNBQKBNRN b - - 12 40",
+    };
+
+    @Test
+    void fenRoundTripsAndMatchesTheBoard() {
+        for (String fen : FENS) {
+            PositionBuilder position = PositionBuilder.fromFen(fen);
+            assertEquals(fen, position.toFen());
+            assertEquals(FenParser.parse(fen).getFen(), position.toBoard().getFen());
+        }
+    }
+
+    @Test
+    void ignoresTheExtendedFenSuffix() {
+        assertEquals(FENS[0], PositionBuilder.fromFen(FENS[0] + " x:mpt=2/2,left=2,bur=0").toFen());
+    }
+
+    @Test
+    void rejectsWhatTheParserRejects() {
+        assertThrows(IllegalArgumentException.class, () -> PositionBuilder.fromFen("4k3/8/8/8/8/8/8/4K3 x - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> PositionBuilder.fromFen("4k3/8/8/8/8/8/8/4K3 w - a9 0 1"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.predixcode.core.fen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.GameConfig;
+
+class StartPositionServiceTest {
+
+    private static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+    private static final GameConfig CHESS960 = new GameConfig(null, false, 1, 1, 0, 0, false, true);
+
+    @BeforeEach
+    void clear() {
+        StartPositionService.clearCache();
+    }
+
+    @Test
+    void sameSeedGivesSameLayout() {
+        String a = StartPositionService.buildStartingFen(START, CHESS960, 42L);
+        String b = StartPositionService.buildStartingFen(START, CHESS960, 42L);
+        assertEquals(a, b);
+        assertEquals(a, StartPositionService.createStartingBoard(START, CHESS960, 42L, false).getFen());
+    }
+
+    @Test
+    void unseededLayoutsAreNotCached() {
+        for (int i = 0; i < 10; i++) {
+            StartPositionService.buildStartingFen(START, CHESS960);
+            StartPositionService.buildStartingFen(START, CHESS960, new Random(i));
+            StartPositionService.createStartingBoard(START, CHESS960, i, false);
+        }
+        assertEquals(0, StartPositionService.cacheSize());
+
+        StartPositionService.buildStartingFen(START, CHESS960, 7L);
+        StartPositionService.buildStartingFen(START, CHESS960, 7L);
+        assertEquals(1, StartPositionService.cacheSize());
+    }
+
+    @Test
+    void fixedLayoutsShareOneEntry() {
+        GameConfig resized = new GameConfig(null, false, 1, 1, 10, 10, false, false);
+        String a = StartPositionService.buildStartingFen(START, resized, 1L);
+        String b = StartPositionService.buildStartingFen(START, resized, 2L);
+        assertEquals(a, b);
+        assertEquals(1, StartPositionService.cacheSize());
+    }
+}
@@ -0,0 +1,43 @@
+package com.predixcode.core.fen.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class Chess960CatalogTest {
+
+    @Test
+    void standardNumbering() {
+        assertEquals(960, Chess960Catalog.count(8));
+        assertEquals("RNBQKBNR", Chess960Catalog.backRankString(8, Chess960Catalog.STANDARD));
+        assertEquals("BBQNNRKR", Chess960Catalog.backRankString(8, 0));
+        assertEquals(Chess960Catalog.STANDARD, Chess960Catalog.indexOf("rnbqkbnr"));
+    }
+
+    @Test
+    void everyIndexRoundTrips() {
+        for (int width = 5; width <= 10; width++) {
+            long count = Chess960Catalog.count(width);
+            Set<String> seen = new HashSet<>();
+            for (long index = 0; index < count; index++) {
+                String rank = Chess960Catalog.backRankString(width, index);
+                assertEquals(width, rank.length());
+                assertEquals(index, Chess960Catalog.indexOf(rank), rank);
+                seen.add(rank);
+            }
+            assertEquals(count, seen.size(), "distinct ranks on " + width + " files");
+        }
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertEquals(-1, Chess960Catalog.indexOf("RNBQKNBR"));
+        assertEquals(-1, Chess960Catalog.indexOf("RRKBBNNQ"));
+        assertThrows(IllegalArgumentException.class, () -> Chess960Catalog.backRank(8, 960));
+        assertThrows(IllegalArgumentException.class, () -> Chess960Catalog.backRank(8, -1));
+    }
+}
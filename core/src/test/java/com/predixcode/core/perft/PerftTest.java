@@ -0,0 +1,52 @@
+package com.predixcode.core.perft;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.board.Board;
+
+/**
+ * Reference counts from the Chess Programming Wiki perft results.
+ * Pawns do not promote in this engine, so only positions and depths where
+ * no promotion is reachable can be checked against them.
+ */
+class PerftTest {
+
+    private static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+    @Test
+    void startPosition() {
+        Board board = Perft.setUp(START);
+        assertEquals(20, Perft.perft(board, 1));
+        assertEquals(400, Perft.perft(board, 2));
+        assertEquals(8902, Perft.perft(board, 3));
+        assertEquals(197281, Perft.run(board, 4).nodes());
+    }
+
+    @Test
+    void kiwipete() {
+        assertEquals(97862, Perft.run(Perft.setUp(KIWIPETE), 3).nodes());
+    }
+
+    @Test
+    void position3() {
+        assertEquals(674624, Perft.run(Perft.setUp(POSITION_3), 5).nodes());
+    }
+
+    @Test
+    void divideMatchesPerftAndRestoresTheBoard() {
+        Board board = Perft.setUp(KIWIPETE);
+        String before = board.getFen();
+        long hash = board.getPositionHash();
+
+        Perft.Result result = Perft.divide(board, 2);
+        assertEquals(48, result.divide().size());
+        assertEquals(2039, result.nodes());
+        assertEquals(result.nodes(), result.divide().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(before, board.getFen());
+        assertEquals(hash, board.getPositionHash());
+    }
+}
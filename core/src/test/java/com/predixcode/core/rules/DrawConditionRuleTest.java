@@ -0,0 +1,56 @@
+package com.predixcode.core.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.GameConfig;
+import com.predixcode.core.board.Board;
+import com.predixcode.core.board.MoveResult;
+
+class DrawConditionRuleTest {
+
+    private static Board started() {
+        Board board = Board.fromFen("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1");
+        board.setRules(RuleBuilder.buildRules(new GameConfig(null, false, 1, 1)));
+        board.startGame();
+        return board;
+    }
+
+    private static MoveResult play(Board board, String... plies) {
+        MoveResult last = null;
+        for (String ply : plies) {
+            String[] sq = ply.split("-");
+            last = board.tryApplyTurn(sq[0], sq[1]);
+        }
+        return last;
+    }
+
+    @Test
+    void thirdOccurrenceIsADraw() {
+        Board board = started();
+        play(board, "g1-f3", "g8-f6", "f3-g1", "f6-g8", "g1-f3", "g8-f6", "f3-g1");
+        assertEquals(MoveResult.Status.DRAW, play(board, "f6-g8").getStatus());
+    }
+
+    @Test
+    void undoAcrossAnIrreversibleMoveRestoresTheCounts() {
+        Board board = started();
+        DrawConditionRule draws = board.findRule(DrawConditionRule.class);
+        play(board, "g1-f3", "g8-f6", "f3-g1", "f6-g8");
+        assertEquals(2, draws.getRepetitionCount(board));
+
+        MoveResult pawn = play(board, "e2-e4");
+        assertEquals(1, draws.getRepetitionCount(board));
+        board.unmake(pawn.getUndoRecord());
+        assertEquals(2, draws.getRepetitionCount(board));
+
+        // Redo crosses the same boundary forward again.
+        board.remake(pawn.getUndoRecord());
+        assertEquals(1, draws.getRepetitionCount(board));
+        board.unmake(pawn.getUndoRecord());
+
+        play(board, "g1-f3", "g8-f6", "f3-g1");
+        assertEquals(MoveResult.Status.DRAW, play(board, "f6-g8").getStatus());
+    }
+}
@@ -0,0 +1,70 @@
+package com.predixcode.core.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.predixcode.core.board.Board;
+import com.predixcode.core.fen.ExtendedFen;
+
+class BoardControllerTest {
+
+    // Castling both ways, en passant and captures.
+    private static final List<String> GAME = List.of(
+            "e2-e4", "d7-d5", "e4-e5", "f7-f5", "e5-f6", "g8-f6", "g1-f3", "c8-g4",
+            "f1-e2", "b8-c6", "e1-g1", "d8-d6", "d2-d4", "e8-c8", "b2-b4", "d5-d4",
+            "b4-b5", "d4-d3", "b5-c6", "d3-c2", "c6-b7", "c8-b8", "b1-c3", "c2-d1");
+
+    private static BoardController started() {
+        return new BoardController(ExtendedFen.parse("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"));
+    }
+
+    @Test
+    void undoAndRedoRestoreEveryPosition() {
+        BoardController controller = started();
+        Board board = controller.getBoard();
+
+        List<String> fens = new ArrayList<>();
+        long[] hashes = new long[GAME.size() + 1];
+        fens.add(ExtendedFen.toExtendedFen(board));
+        hashes[0] = board.getPositionHash();
+        for (String ply : GAME) {
+            assertTrue(controller.replay(List.of(ply)).isApplied(), ply);
+            fens.add(ExtendedFen.toExtendedFen(board));
+            hashes[fens.size() - 1] = board.getPositionHash();
+        }
+
+        for (int ply = GAME.size() - 1; ply >= 0; ply--) {
+            assertTrue(controller.undo());
+            assertEquals(fens.get(ply), ExtendedFen.toExtendedFen(board), "undo to ply " + ply);
+            assertEquals(hashes[ply], board.getPositionHash(), "undo to ply " + ply);
+            assertEquals(ply, controller.getViewState().getMoveCount());
+        }
+        assertFalse(controller.canUndo());
+
+        for (int ply = 1; ply <= GAME.size(); ply++) {
+            assertTrue(controller.redo());
+            assertEquals(fens.get(ply), ExtendedFen.toExtendedFen(board), "redo to ply " + ply);
+            assertEquals(hashes[ply], board.getPositionHash(), "redo to ply " + ply);
+        }
+        assertFalse(controller.canRedo());
+    }
+
+    @Test
+    void aNewMoveClearsRedo() {
+        BoardController controller = started();
+        controller.replay(List.of("e2-e4", "e7-e5"));
+        assertTrue(controller.undo());
+        assertTrue(controller.canRedo());
+
+        controller.replay(List.of("c7-c5"));
+        assertFalse(controller.canRedo());
+        assertEquals("rnbqkbnr/pp1ppppp/8/2p5/4P3/8/PPPP1PPP/RNBQKBNR w KQkq c6 0 2",
+                     controller.getBoard().getFen());
+    }
+}
@@ -35,10 +35,10 @@ public class App extends Application {
             PRESETS,
             selectedPreset,
             currentConfig,
-            (preset, cfg) -> {
+            (preset, cfg, seed) -> {
                 selectedPreset = preset;
                 currentConfig = cfg;
-                startNewGame(stage);
+                startNewGame(stage, seed);
             },
             () -> resumeGame(stage),
             Platform::exit,
@@ -50,10 +50,11 @@ public class App extends Application {
         stage.show();
     }
 
-    private void startNewGame(Stage stage) {
+    private void startNewGame(Stage stage, long seed) {
         try {
             BoardController controller =
-                GameFactory.createGame(selectedPreset, currentConfig);
+                GameFactory.createGame(selectedPreset, currentConfig, seed);
+            controller.setSpeculativePrecompute(true);
 
             GameScreen gameScreen = new GameScreen(controller);
             gameScreen.setBackToMenuHandler(() -> showConfigMenu(stage, true));
@@ -1,11 +1,13 @@
 package com.predixcode.desktop.ui;
 
 import java.util.List;
-import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import com.predixcode.core.GameConfig;
 import com.predixcode.core.ScenarioMeta;
+import com.predixcode.core.fen.StartPositionPreviewer;
 
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -24,11 +26,20 @@ public final class ConfigMenuScreen {
 
     private ConfigMenuScreen() {}
 
+    /**
+     * Starts a game. {@code seed} is the layout seed of the preview, so
+     * random layouts (Chess960, filled files) start as previewed.
+     */
+    @FunctionalInterface
+    public interface StartAction {
+        void start(ScenarioMeta preset, GameConfig config, long seed);
+    }
+
     public static Scene create(Stage stage,
                                List<ScenarioMeta> presets,
                                ScenarioMeta selected,
                                GameConfig config,
-                               BiConsumer<ScenarioMeta, GameConfig> onStart,
+                               StartAction onStart,
                                Runnable onResume,
                                Runnable onExit,
                                boolean canResume) {
@@ -193,11 +204,8 @@ public final class ConfigMenuScreen {
         // ---------------------------------------------------------------------
         // Buttons
         // ---------------------------------------------------------------------
-        Button startBtn = new Button("Start new game");
-        startBtn.setOnAction(e -> {
-            ScenarioMeta meta = presetBox.getSelectionModel().getSelectedItem();
-            if (meta == null) return;
-
+        // Current form values as a config (fen == null => preset default)
+        Supplier<GameConfig> readConfig = () -> {
             String fen = fenField.getText();
             if (fen != null && fen.isBlank()) fen = null;
 
@@ -213,9 +221,8 @@ public final class ConfigMenuScreen {
                 safeHeight = Math.max(5, height);
                 safeWidth  = Math.max(5, width);
             }
-            
 
-            GameConfig cfg = new GameConfig(
+            return new GameConfig(
                     fen,
                     bureaucratChk.isSelected(),
                     wMoves,
@@ -225,18 +232,64 @@ public final class ConfigMenuScreen {
                     fillExpandedFilesBox.isSelected(),
                     chess960Chk.isSelected()
             );
+        };
+
+        // ---------------------------------------------------------------------
+        // Live preview of the resulting start position (computed off the FX thread)
+        // ---------------------------------------------------------------------
+        Label previewLabel = new Label("Resulting start position:");
+        TextField previewField = new TextField();
+        previewField.setEditable(false);
+        previewField.setFocusTraversable(false);
+        Label previewInfo = new Label();
+        VBox previewBox = new VBox(4, previewLabel, previewField, previewInfo);
+
+        StartPositionPreviewer previewer = new StartPositionPreviewer(Platform::runLater, preview -> {
+            if (preview.isValid()) {
+                previewField.setText(preview.fen());
+                previewInfo.setText(preview.width() + "x" + preview.height()
+                        + (chess960Chk.isSelected() ? " (Chess960)" : ""));
+            } else {
+                previewField.setText("");
+                previewInfo.setText("Invalid: " + preview.error());
+            }
+        });
+
+        Runnable refreshPreview = () -> {
+            GameConfig cfg = readConfig.get();
+            ScenarioMeta meta = presetBox.getSelectionModel().getSelectedItem();
+            String baseFen = (cfg.fenOverride() != null)
+                    ? cfg.fenOverride()
+                    : (meta != null ? meta.getDefaultFen() : null);
+            previewer.request(baseFen, cfg);
+        };
+        fenField.textProperty().addListener((obs, o, n) -> refreshPreview.run());
+        heightField.textProperty().addListener((obs, o, n) -> refreshPreview.run());
+        widthField.textProperty().addListener((obs, o, n) -> refreshPreview.run());
+        fillExpandedFilesBox.selectedProperty().addListener((obs, o, n) -> refreshPreview.run());
+        chess960Chk.selectedProperty().addListener((obs, o, n) -> refreshPreview.run());
+        presetBox.valueProperty().addListener((obs, o, n) -> refreshPreview.run());
+        refreshPreview.run();
+
+        Button startBtn = new Button("Start new game");
+        startBtn.setOnAction(e -> {
+            ScenarioMeta meta = presetBox.getSelectionModel().getSelectedItem();
+            if (meta == null) return;
 
-            if (onStart != null) onStart.accept(meta, cfg);
+            previewer.close();
+            if (onStart != null) onStart.start(meta, readConfig.get(), previewer.getSeed());
         });
 
         Button resumeBtn = new Button("Resume");
         resumeBtn.setDisable(!canResume);
         resumeBtn.setOnAction(e -> {
+            previewer.close();
             if (onResume != null) onResume.run();
         });
 
         Button exitBtn = new Button("Exit");
         exitBtn.setOnAction(e -> {
+            previewer.close();
             if (onExit != null) onExit.run();
         });
 
@@ -251,6 +304,7 @@ public final class ConfigMenuScreen {
                 title,
                 presetRow,
                 fenBox,
+                previewBox,
                 rulesBox,
                 customPiecesBox,
                 buttons
@@ -3,7 +3,9 @@ package com.predixcode.desktop.ui;
 import java.util.List;
 
 import com.predixcode.core.board.Board;
+import com.predixcode.core.fen.ExtendedFen;
 import com.predixcode.core.fen.FenAdapter;
+import com.predixcode.core.ui.BoardViewState;
 
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
@@ -25,6 +27,8 @@ public class GameInfoPanel extends VBox {
     private final TextArea movesArea = new TextArea();
     private final TextField fenField = new TextField();
 
+    private int renderedPlies = 0;  // plies already written to movesArea
+
     public GameInfoPanel(double width) {
         setSpacing(10);
         setPadding(new Insets(10));
@@ -72,7 +76,7 @@ public class GameInfoPanel extends VBox {
         );
     }
 
-    public void refresh(Board board, List<String> moves) {
+    public void refresh(Board board, BoardViewState viewState) {
         // Stats
         lblActive.setText(board.getActiveColor() != null ? board.getActiveColor().getName() : "-");
         lblCastling.setText(FenAdapter.getCastlingString(board));
@@ -80,22 +84,32 @@ public class GameInfoPanel extends VBox {
         lblHalfmove.setText(String.valueOf(board.getHalfmove()));
         lblFullmove.setText(String.valueOf(board.getHalfmove()));
 
-        // Moves
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < moves.size(); i++) {
-            int moveNum = (i / 2) + 1;
-            boolean whiteMove = (i % 2 == 0);
-            if (whiteMove) {
-                sb.append(moveNum).append(". ").append(moves.get(i));
-            } else {
-                sb.append("  ").append(moves.get(i));
+        // Moves: only append plies not rendered yet (rebuild if the history shrank)
+        if (viewState.getMoveCount() < renderedPlies) {
+            movesArea.clear();
+            renderedPlies = 0;
+        }
+        List<String> added = viewState.getMovesSince(renderedPlies);
+        if (!added.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            int i = renderedPlies;
+            for (String ply : added) {
+                int moveNum = (i / 2) + 1;
+                boolean whiteMove = (i % 2 == 0);
+                if (whiteMove) {
+                    sb.append(moveNum).append(". ").append(ply);
+                } else {
+                    sb.append("  ").append(ply);
+                }
+                sb.append('\n');
+                i++;
             }
-            sb.append('\n');
+            movesArea.appendText(sb.toString());
+            renderedPlies = i;
         }
-        movesArea.setText(sb.toString());
         movesArea.setScrollTop(Double.MAX_VALUE); // scroll to end
 
-        // FEN
-        fenField.setText(FenAdapter.toFen(board));
+        // FEN (extended when the variant needs it, so a copied position keeps its rules)
+        fenField.setText(ExtendedFen.toExtendedFen(board));
     }
 }
\ No newline at end of file
@@ -1,14 +1,13 @@
 package com.predixcode.desktop.ui;
 
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.predixcode.core.board.Board;
-import com.predixcode.core.board.MoveResult;
+import com.predixcode.core.board.PieceDelta;
+import com.predixcode.core.board.SquareSet;
 import com.predixcode.core.board.pieces.Piece;
 import com.predixcode.core.ui.BoardController;
 import com.predixcode.core.ui.BoardViewState;
@@ -130,7 +129,14 @@ public class GameScreen extends Application {
         Button backBtn = new Button("← Menu");
         backBtn.setOnAction(e -> goBackToMenu());
         backBtn.setStyle("-fx-font-size: 14px; -fx-background-color: #ececec; -fx-border-color: #c7c7c7;");
-        topBar.getChildren().add(backBtn);
+        Button undoBtn = new Button("Undo");
+        undoBtn.setOnAction(e -> { if (boardController.undo()) onHistoryJump(); });
+        undoBtn.setStyle(backBtn.getStyle());
+        Button redoBtn = new Button("Redo");
+        redoBtn.setOnAction(e -> { if (boardController.redo()) onHistoryJump(); });
+        redoBtn.setStyle(backBtn.getStyle());
+        topBar.setSpacing(8);
+        topBar.getChildren().addAll(backBtn, undoBtn, redoBtn);
         root.setTop(topBar);
 
         // Build scene
@@ -155,8 +161,7 @@ public class GameScreen extends Application {
         content.scaleYProperty().bind(scale);
 
         loadPieces();
-        refreshPieces();
-        infoPanel.refresh(board, viewState.getMoveHistory());
+        infoPanel.refresh(board, viewState);
         redrawHighlights();
     }
 
@@ -169,35 +174,25 @@ public class GameScreen extends Application {
         // 3) Redraw highlights based on viewState (selection, targets, last move)
         redrawHighlights();
 
-        // 4) Handle move animation & info panel updates on MOVE_APPLIED
+        // 4) Apply the move's piece deltas (animations) & info panel updates on MOVE_APPLIED
         if (event.type == ClickOutcome.Type.MOVE_APPLIED && event.moveResult != null) {
-            MoveResult mr = event.moveResult;
-            int[] from = mr.getFrom();
-            int[] to   = mr.getTo();
-
-            if (from != null && to != null) {
-                Piece moved = board.getPieceAt(to[0], to[1]);
-                Piece captured = mr.getCaptured();
-
-                boolean capturedStillExists = (captured != null) && board.getPieces().contains(captured);
-                ImageView capturedNode = (!capturedStillExists && captured != null)
-                        ? pieceNodes.get(captured)
-                        : null;
-
-                animateMove(moved, from[0], from[1], to[0], to[1], capturedNode);
-
-                if (captured != null && !capturedStillExists) {
-                    ImageView removed = pieceNodes.remove(captured);
-                    if (removed != null) pieceLayer.getChildren().remove(removed);
-                }
-            }
-
-            infoPanel.refresh(board, viewState.getMoveHistory());
+            applyDeltas(event.moveResult.getDeltas());
+            infoPanel.refresh(board, viewState);
         }
 
         // You could also use viewState.getLastError() for a toast / dialog if MOVE_REJECTED.
     }
 
+    /**
+     * Re-syncs the whole view after an undo / redo (no animation).
+     */
+    private void onHistoryJump() {
+        this.viewState = boardController.getViewState();
+        loadPieces();
+        redrawHighlights();
+        infoPanel.refresh(board, viewState);
+    }
+
     private void goBackToMenu() {
         if (backToMenuHandler != null) {
             backToMenuHandler.run();
@@ -274,74 +269,57 @@ public class GameScreen extends Application {
         pieceNodes.clear();
 
         for (Piece p : board.getPieces()) {
-            ImageView iv = new ImageView(loadImageFor(p));
-            iv.setFitWidth(TILE * 0.9);
-            iv.setFitHeight(TILE * 0.9);
-            iv.setPreserveRatio(true);
-            iv.setSmooth(true);
-
-            DropShadow ds = new DropShadow();
-            ds.setRadius(8);
-            ds.setColor(Color.web("#00000040"));
-            iv.setEffect(ds);
-
-            int x = p.posX;
-            int y = p.posY;
-            placeNodeAt(iv, x, y);
-
-            iv.setOnMouseClicked(e -> {
-                if (e.getButton() == MouseButton.PRIMARY) {
-                    onSquareClick(p.posX, p.posY);
-                }
-            });
-            pieceNodes.put(p, iv);
-            pieceLayer.getChildren().add(iv);
+            addPieceNode(p);
         }
     }
 
-    private void refreshPieces() {
-        // Build an identity-based membership of current pieces
-        IdentityHashMap<Piece, Boolean> currentMap = new IdentityHashMap<>();
-        for (Piece p : board.getPieces()) currentMap.put(p, Boolean.TRUE);
+    private ImageView addPieceNode(Piece p) {
+        ImageView iv = new ImageView(loadImageFor(p));
+        iv.getProperties().put("imgKey", p.getImagePath(THEME));
+        iv.setFitWidth(TILE * 0.9);
+        iv.setFitHeight(TILE * 0.9);
+        iv.setPreserveRatio(true);
+        iv.setSmooth(true);
 
-        // Remove nodes for pieces that no longer exist (identity-based)
-        List<Piece> toRemove = new ArrayList<>();
-        for (Piece p : pieceNodes.keySet()) {
-            if (!currentMap.containsKey(p)) toRemove.add(p);
-        }
-        for (Piece p : toRemove) {
-            ImageView iv = pieceNodes.remove(p);
-            if (iv != null) pieceLayer.getChildren().remove(iv);
-        }
-        // Add nodes for new pieces (identity-based)
-        for (Piece p : board.getPieces()) {
-            if (!pieceNodes.containsKey(p)) {
-                ImageView iv = new ImageView(loadImageFor(p));
-                iv.getProperties().put("imgKey", p.getImagePath(THEME));
-                iv.setFitWidth(TILE * 0.9);
-                iv.setFitHeight(TILE * 0.9);
-                iv.setPreserveRatio(true);
-                iv.setSmooth(true);
-                DropShadow ds = new DropShadow();
-                ds.setRadius(8);
-                ds.setColor(Color.web("#00000040"));
-                iv.setEffect(ds);
-                iv.setOnMouseClicked(e -> {
-                    if (e.getButton() == MouseButton.PRIMARY) onSquareClick(p.posX, p.posY);
-                });
-                pieceNodes.put(p, iv);
-                pieceLayer.getChildren().add(iv);
-                placeNodeAt(iv, p.posX, p.posY);
+        DropShadow ds = new DropShadow();
+        ds.setRadius(8);
+        ds.setColor(Color.web("#00000040"));
+        iv.setEffect(ds);
+
+        placeNodeAt(iv, p.posX, p.posY);
+
+        iv.setOnMouseClicked(e -> {
+            if (e.getButton() == MouseButton.PRIMARY) {
+                onSquareClick(p.posX, p.posY);
             }
-        }
-        // Sync positions (identity-based)
-        for (Piece p : board.getPieces()) {
-            ImageView iv = pieceNodes.get(p);
-            if (iv != null) {
-                ensureSpriteUpToDate(p, iv);
-                placeNodeAt(iv, p.posX, p.posY);
-                if (!pieceLayer.getChildren().contains(iv)) {
-                    pieceLayer.getChildren().add(iv);
+        });
+        pieceNodes.put(p, iv);
+        pieceLayer.getChildren().add(iv);
+        return iv;
+    }
+
+    /**
+     * Updates only the nodes touched by the move, in the order the rules applied
+     * the changes (mover, castling rook, en passant / regular capture, Bureaucrat).
+     */
+    private void applyDeltas(List<PieceDelta> deltas) {
+        for (PieceDelta d : deltas) {
+            Piece p = d.getPiece();
+            switch (d.getKind()) {
+                case MOVED -> {
+                    ImageView iv = pieceNodes.get(p);
+                    if (iv != null) animateMove(iv, d.getFromX(), d.getFromY(), d.getToX(), d.getToY());
+                }
+                case REMOVED -> {
+                    ImageView iv = pieceNodes.remove(p);
+                    if (iv != null) fadeOut(iv);
+                }
+                case ADDED -> {
+                    if (!pieceNodes.containsKey(p)) addPieceNode(p);
+                }
+                case COLOR_CHANGED -> {
+                    ImageView iv = pieceNodes.get(p);
+                    if (iv != null) ensureSpriteUpToDate(p, iv);
                 }
             }
         }
@@ -376,10 +354,15 @@ public class GameScreen extends Application {
         }
     }
 
-    private void animateMove(Piece p, int fromX, int fromY, int toX, int toY, ImageView capturedNode) {
-        ImageView iv = pieceNodes.get(p);
-        if (iv == null) return;
+    private void fadeOut(ImageView node) {
+        FadeTransition fade = new FadeTransition(Duration.millis(120), node);
+        fade.setFromValue(1.0);
+        fade.setToValue(0.0);
+        fade.setOnFinished(e -> pieceLayer.getChildren().remove(node));
+        fade.play();
+    }
 
+    private void animateMove(ImageView iv, int fromX, int fromY, int toX, int toY) {
         double fromLayoutX = snapX(fromX);
         double fromLayoutY = snapY(fromY);
         double toLayoutX = snapX(toX);
@@ -388,15 +371,6 @@ public class GameScreen extends Application {
         Timeline tl = new Timeline();
         int time = 200;
 
-        // Fade captured AFTER a successful move
-        if (capturedNode != null) {
-            FadeTransition fade = new FadeTransition(Duration.millis(120), capturedNode);
-            fade.setFromValue(1.0);
-            fade.setToValue(0.0);
-            fade.setOnFinished(e -> pieceLayer.getChildren().remove(capturedNode));
-            fade.play();
-        }
-
         iv.toFront();
         tl.getKeyFrames().addAll(
             new KeyFrame(Duration.ZERO,
@@ -408,10 +382,7 @@ public class GameScreen extends Application {
                 new KeyValue(iv.layoutYProperty(), toLayoutY)
             )
         );
-        tl.setOnFinished(e -> {
-            placeNodeAt(iv, toX, toY);
-            refreshPieces(); // sync other state (e.g., rook after castling, EP removal)
-        });
+        tl.setOnFinished(e -> placeNodeAt(iv, toX, toY));
         tl.play();
     }
 
@@ -453,10 +424,10 @@ public class GameScreen extends Application {
         }
 
         // Legal targets
-        for (String alg : viewState.getLegalTargets()) {
-            int[] xy = board.fromAlg(alg);
-            double cx = xy[0] * TILE + TILE / 2.0;
-            double cy = xy[1] * TILE + TILE / 2.0;
+        SquareSet targets = viewState.getLegalTargetSquares();
+        for (int i = targets.nextSquare(0); i >= 0; i = targets.nextSquare(i + 1)) {
+            double cx = targets.xOf(i) * TILE + TILE / 2.0;
+            double cy = targets.yOf(i) * TILE + TILE / 2.0;
             Circle dot = new Circle(cx, cy, TILE * 0.16);
             dot.setFill(targetDotColor);
             highlightLayer.getChildren().add(dot);